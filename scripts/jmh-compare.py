@@ -0,0 +1,54 @@
+#!/usr/bin/env python3
+"""Compare two JMH JSON result files (mvn -Pjmh test-compile exec:exec).
+
+Usage: scripts/jmh-compare.py baseline.json candidate.json [--threshold 5]
+
+Prints one row per benchmark/param combination with the relative change and
+exits with status 1 if any benchmark regressed by more than the threshold (%).
+"""
+import argparse
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        results = {}
+        for entry in json.load(f):
+            params = entry.get("params") or {}
+            key = entry["benchmark"] + "".join(f" {k}={v}" for k, v in sorted(params.items()))
+            metric = entry["primaryMetric"]
+            results[key] = (metric["score"], metric["scoreError"], metric["scoreUnit"], entry["mode"])
+        return results
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("baseline")
+    parser.add_argument("candidate")
+    parser.add_argument("--threshold", type=float, default=5.0)
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    candidate = load(args.candidate)
+
+    regressed = False
+    print(f"{'benchmark':70} {'baseline':>14} {'candidate':>14} {'change':>9}")
+    for key in sorted(baseline.keys() | candidate.keys()):
+        if key not in baseline or key not in candidate:
+            print(f"{key:70} {'(only in one file)':>39}")
+            continue
+        old, _, unit, mode = baseline[key]
+        new, _, _, _ = candidate[key]
+        change = (new - old) / old * 100 if old else 0.0
+        # thrpt: higher is better; avgt/sample/ss: lower is better
+        worse = change < -args.threshold if mode == "thrpt" else change > args.threshold
+        regressed |= worse
+        flag = "  REGRESSION" if worse else ""
+        print(f"{key:70} {old:>10.3f} {unit:<3} {new:>10.3f} {unit:<3} {change:>+8.1f}%{flag}")
+
+    sys.exit(1 if regressed else 0)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,88 @@
+#!/usr/bin/env python3
+"""Measure TaskFlow startup: time to first request and time to readiness.
+
+Usage:
+  scripts/startup-time.py [--runs 5] [--url http://localhost:8080] -- <start command...>
+
+Examples (database settings come from the environment, as for the app itself):
+  scripts/startup-time.py -- java -Xms128m -Xmx256m -jar target/demo-0.0.1-SNAPSHOT.jar
+  scripts/startup-time.py -- java -Dspring.aot.enabled=true -jar target/demo-0.0.1-SNAPSHOT.jar
+  scripts/startup-time.py -- docker run --rm -p 8080:8080 --env-file .env taskflow:fast-start
+
+For each run the command is started, then polled until
+  first request: GET /api/tasks/stats answers 200 (Tomcat is serving)
+  ready:         GET /actuator/health/readiness answers 200 (warmup done)
+and the process is stopped. Prints per-run times and the median of each.
+"""
+import argparse
+import signal
+import statistics
+import subprocess
+import sys
+import time
+import urllib.error
+import urllib.request
+
+POLL_SECONDS = 0.05
+
+
+def ok(url):
+    try:
+        with urllib.request.urlopen(url, timeout=1) as response:
+            return response.status == 200
+    except (urllib.error.URLError, ConnectionError, OSError):
+        return False
+
+
+def measure(command, base_url, timeout):
+    start = time.monotonic()
+    process = subprocess.Popen(command, stdout=subprocess.DEVNULL, stderr=subprocess.DEVNULL)
+    first_request = ready = None
+    try:
+        while time.monotonic() - start < timeout:
+            if process.poll() is not None:
+                raise RuntimeError(f"process exited with status {process.returncode}")
+            now = time.monotonic() - start
+            if first_request is None and ok(base_url + "/api/tasks/stats"):
+                first_request = now
+            if first_request is not None and ok(base_url + "/actuator/health/readiness"):
+                ready = time.monotonic() - start
+                break
+            time.sleep(POLL_SECONDS)
+        else:
+            raise RuntimeError(f"not ready after {timeout}s")
+    finally:
+        process.send_signal(signal.SIGTERM)
+        try:
+            process.wait(timeout=30)
+        except subprocess.TimeoutExpired:
+            process.kill()
+    return first_request, ready
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--runs", type=int, default=5)
+    parser.add_argument("--url", default="http://localhost:8080")
+    parser.add_argument("--timeout", type=float, default=120.0)
+    parser.add_argument("command", nargs=argparse.REMAINDER)
+    args = parser.parse_args()
+
+    command = args.command[1:] if args.command[:1] == ["--"] else args.command
+    if not command:
+        parser.error("missing start command (after --)")
+
+    first_requests, readies = [], []
+    for run in range(1, args.runs + 1):
+        first_request, ready = measure(command, args.url, args.timeout)
+        first_requests.append(first_request)
+        readies.append(ready)
+        print(f"run {run}: first request {first_request * 1000:8.0f} ms   ready {ready * 1000:8.0f} ms")
+
+    print(f"median: first request {statistics.median(first_requests) * 1000:8.0f} ms   "
+          f"ready {statistics.median(readies) * 1000:8.0f} ms")
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,79 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.DemoApplication;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Deterministic fixtures shared by the benchmarks
+final class BenchmarkData {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private BenchmarkData() {
+    }
+
+    static List<Task> tasks(int count) {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task("Benchmark task " + i, PRIORITIES[i % PRIORITIES.length],
+                    STATUSES[i % STATUSES.length]);
+            task.setId((long) i + 1);
+            task.setCreatedAt(base.plusSeconds(i));
+            task.setUpdatedAt(base.plusSeconds(i + 60));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<TaskResponse> responses(int count) {
+        List<TaskResponse> responses = new ArrayList<>(count);
+        for (Task task : tasks(count)) {
+            responses.add(toResponse(task));
+        }
+        return responses;
+    }
+
+    // Same copy TaskServiceImpl.mapToResponse does
+    static TaskResponse toResponse(Task task) {
+        return new TaskResponse(task.getId(), task.getName(), task.getStatus(),
+                task.getPriority(), task.getCreatedAt(), task.getUpdatedAt(), task.getVersion());
+    }
+
+    // Full application context on in-memory H2 in PostgreSQL mode (no web server, no workers).
+    // Command-line style args so they win over application.properties.
+    static ConfigurableApplicationContext h2Context(String databaseName) {
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:" + databaseName
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.flyway.enabled=false",
+                        "--taskflow.worker.enabled=false",
+                        "--taskflow.search.index.enabled=false",
+                        // Benchmarks that clear the cache measure the load, not the previous list
+                        "--taskflow.cache.list.max-stale=0s",
+                        "--taskflow.rollups.enabled=false",
+                        "--taskflow.cache.remote-changes.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.taskflow=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN");
+    }
+}
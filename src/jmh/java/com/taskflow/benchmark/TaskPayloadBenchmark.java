@@ -0,0 +1,89 @@
+package com.taskflow.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.config.BinaryFormatConfig;
+import com.taskflow.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// A 10k-task list response in each wire format the controllers can negotiate:
+//   serialize:        server CPU to encode the list
+//   serializeAndGzip: the same plus server.compression's gzip
+//   deserialize:      client CPU to decode it back into TaskResponse objects
+// Payload sizes (raw and gzip) are printed once per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPayloadBenchmark {
+
+    private static final TypeReference<List<TaskResponse>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> responses;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        switch (format) {
+            case "cbor":
+                objectMapper = BinaryFormatConfig.cborMapper(Jackson2ObjectMapperBuilder.json());
+                break;
+            case "smile":
+                objectMapper = BinaryFormatConfig.smileMapper(Jackson2ObjectMapperBuilder.json());
+                break;
+            default:
+                // Same defaults as the ObjectMapper Spring Boot builds for the app
+                objectMapper = Jackson2ObjectMapperBuilder.json()
+                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .build();
+                break;
+        }
+
+        responses = BenchmarkData.responses(size);
+        payload = objectMapper.writeValueAsBytes(responses);
+
+        System.out.printf("%n%s payload for %d tasks: %d bytes, %d bytes gzipped%n",
+                format, size, payload.length, gzip(payload).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzip() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(responses));
+    }
+
+    @Benchmark
+    public List<TaskResponse> deserialize() throws IOException {
+        return objectMapper.readValue(payload, TASK_LIST);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.repository.TaskRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// TaskRepository queries through the real Spring Data / Hibernate stack against
+// in-memory H2 in PostgreSQL mode (absolute numbers differ from Postgres, deltas don't)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRepositoryBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.h2Context("taskflow-bench");
+
+        taskRepository = context.getBean(TaskRepository.class);
+
+        List<Task> tasks = BenchmarkData.tasks(rows);
+        tasks.forEach(task -> task.setId(null));
+        taskRepository.saveAll(tasks);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Task> findById() {
+        return taskRepository.findById(ThreadLocalRandom.current().nextLong(1, rows + 1));
+    }
+
+    @Benchmark
+    public List<Task> findByStatus() {
+        return taskRepository.findByStatus(TaskStatus.QUEUED);
+    }
+
+    @Benchmark
+    public List<Task> findByStatusAndPriority() {
+        return taskRepository.findByStatusAndPriority(TaskStatus.QUEUED, TaskPriority.HIGH);
+    }
+
+    @Benchmark
+    public long countTasksByStatus() {
+        return taskRepository.countTasksByStatus(TaskStatus.COMPLETED);
+    }
+
+    @Benchmark
+    public List<TaskResponse> keysetPageAfterId() {
+        return taskRepository.findPageAfterId(ThreadLocalRandom.current().nextLong(1, rows), Limit.of(20));
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.dto.TaskRequest;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Bean Validation of TaskRequest (@NotBlank, @Size) as done by @Valid; status/priority are enum-bound by Jackson
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRequestValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private TaskRequest validRequest;
+    private TaskRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        validRequest = new TaskRequest("Send welcome email", TaskPriority.HIGH, TaskStatus.QUEUED);
+        invalidRequest = new TaskRequest("x", TaskPriority.LOW, TaskStatus.QUEUED);   // name too short
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskRequest>> validRequest() {
+        return validator.validate(validRequest);
+    }
+
+    // Failing constraints also pay for message interpolation
+    @Benchmark
+    public Set<ConstraintViolation<TaskRequest>> invalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+}
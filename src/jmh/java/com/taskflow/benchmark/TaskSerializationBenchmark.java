@@ -0,0 +1,51 @@
+package com.taskflow.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.dto.TaskRequest;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson work done by the controllers: List<TaskResponse> out, TaskRequest in
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> responses;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same defaults as the ObjectMapper Spring Boot builds for the app
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        responses = BenchmarkData.responses(size);
+        requestJson = objectMapper.writeValueAsBytes(new TaskRequest("Send welcome email", TaskPriority.HIGH, TaskStatus.QUEUED));
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public TaskRequest deserializeTaskRequest() throws Exception {
+        return objectMapper.readValue(requestJson, TaskRequest.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskflow.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Concurrency limit that follows observed latency (gradient, as in Netflix's
+// concurrency-limits Gradient2). A long-window average RTT is the baseline and a
+// short-window average the current latency; their ratio scales the limit down
+// as requests start queueing and lets it grow by about sqrt(limit) while they
+// do not. Failed requests (5xx / exceptions) cut the limit multiplicatively (AIMD).
+// The limit only grows while it is actually used, so an idle class does not
+// accumulate headroom it has never been tested with.
+class AdaptiveConcurrencyLimit {
+
+    private static final double LONG_WINDOW = 600;      // samples
+    private static final double SHORT_WINDOW = 10;
+    private static final double RTT_TOLERANCE = 1.5;    // latency may rise this much before the limit shrinks
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final boolean adaptive;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    private double longRtt;     // guarded by this
+    private double shortRtt;    // guarded by this
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.adaptive = this.minLimit < this.maxLimit;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    // Fixed limit (min = max)
+    AdaptiveConcurrencyLimit(int limit) {
+        this(limit, limit, limit);
+    }
+
+    // ================= ADMISSION =================
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // inFlightAtStart: concurrency when the request was admitted, tells a saturated class from an idle one
+    void release(long rttNanos, int inFlightAtStart, boolean failed) {
+        inFlight.decrementAndGet();
+        if (adaptive) {
+            sample(rttNanos, inFlightAtStart, failed);
+        }
+    }
+
+    // Completed without a usable latency (e.g. a streamed response)
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    // ================= LIMIT UPDATE =================
+
+    private synchronized void sample(long rttNanos, int inFlightAtStart, boolean failed) {
+        if (failed) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            return;
+        }
+
+        double rtt = rttNanos;
+        if (longRtt == 0) {
+            longRtt = rtt;
+            shortRtt = rtt;
+            return;
+        }
+        longRtt += (rtt - longRtt) / LONG_WINDOW;
+        shortRtt += (rtt - shortRtt) / SHORT_WINDOW;
+
+        // Latency dropped well below the baseline (e.g. after warmup): let the baseline catch up faster
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        if (inFlightAtStart < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.min(maxLimit, Math.max(minLimit, next));
+    }
+
+    // ================= STATUS =================
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskflow.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Overrides the endpoint class AdmissionInterceptor derives from the HTTP method and path,
+// e.g. for a POST that only reads
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionClass {
+
+    EndpointClass value();
+}
@@ -0,0 +1,173 @@
+package com.taskflow.admission;
+
+import com.taskflow.exception.ServiceUnavailableException;
+import com.taskflow.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Admission budgets for /api/**: an adaptive concurrency limit per endpoint class
+// (fixed for EXPORT) plus a server-wide cap below Tomcat's thread count. A class
+// over its own limit gets 429; past the shed threshold of the server-wide cap,
+// bulk classes get 503 first so point reads and writes keep the remaining threads.
+// Both are answered immediately with Retry-After instead of queueing.
+@Component
+public class AdmissionControl {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControl.class);
+
+    @Value("${taskflow.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${taskflow.admission.max-concurrency:180}")
+    private int maxConcurrency;
+
+    // Share of max-concurrency above which LIST / EXPORT requests are shed
+    @Value("${taskflow.admission.bulk-shed-threshold:0.7}")
+    private double bulkShedThreshold;
+
+    @Value("${taskflow.admission.retry-after:1s}")
+    private Duration retryAfter;
+
+    @Value("${taskflow.admission.list.initial-limit:20}")
+    private int listInitialLimit;
+
+    @Value("${taskflow.admission.list.max-limit:60}")
+    private int listMaxLimit;
+
+    @Value("${taskflow.admission.read.initial-limit:50}")
+    private int readInitialLimit;
+
+    @Value("${taskflow.admission.read.max-limit:150}")
+    private int readMaxLimit;
+
+    @Value("${taskflow.admission.write.initial-limit:40}")
+    private int writeInitialLimit;
+
+    @Value("${taskflow.admission.write.max-limit:120}")
+    private int writeMaxLimit;
+
+    @Value("${taskflow.admission.export.limit:4}")
+    private int exportLimit;
+
+    @Value("${taskflow.admission.min-limit:2}")
+    private int minLimit;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<EndpointClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(EndpointClass.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @PostConstruct
+    public void init() {
+        limits.put(EndpointClass.LIST, new AdaptiveConcurrencyLimit(listInitialLimit, minLimit, listMaxLimit));
+        limits.put(EndpointClass.EXPORT, new AdaptiveConcurrencyLimit(exportLimit));
+        limits.put(EndpointClass.READ, new AdaptiveConcurrencyLimit(readInitialLimit, minLimit, readMaxLimit));
+        limits.put(EndpointClass.WRITE, new AdaptiveConcurrencyLimit(writeInitialLimit, minLimit, writeMaxLimit));
+
+        limits.forEach((endpointClass, limit) -> {
+            Gauge.builder("taskflow.admission.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .tag("class", endpointClass.tag())
+                    .description("Current concurrency limit of the endpoint class")
+                    .register(meterRegistry);
+            Gauge.builder("taskflow.admission.in_flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .tag("class", endpointClass.tag())
+                    .register(meterRegistry);
+        });
+
+        if (!enabled) {
+            logger.info("Admission control disabled");
+        }
+    }
+
+    // ================= ADMIT / RELEASE =================
+
+    // Throws TooManyRequestsException (class limit) or ServiceUnavailableException (server cap)
+    public Permit admit(EndpointClass endpointClass) {
+        if (!enabled) {
+            return null;
+        }
+
+        AdaptiveConcurrencyLimit limit = limits.get(endpointClass);
+        if (!limit.tryAcquire()) {
+            reject(endpointClass, "limit");
+            throw new TooManyRequestsException(
+                    "Too many concurrent " + endpointClass.tag() + " requests, retry later", retryAfterSeconds());
+        }
+
+        int cap = endpointClass.isBulk() ? (int) (maxConcurrency * bulkShedThreshold) : maxConcurrency;
+        int admitted = inFlight.incrementAndGet();
+        if (admitted > cap) {
+            inFlight.decrementAndGet();
+            limit.release();
+            reject(endpointClass, "overload");
+            throw new ServiceUnavailableException("Server is at capacity, retry later", retryAfterSeconds());
+        }
+
+        return new Permit(limit, limit.getInFlight(), System.nanoTime());
+    }
+
+    private void reject(EndpointClass endpointClass, String reason) {
+        meterRegistry.counter("taskflow.admission.rejected", "class", endpointClass.tag(), "reason", reason)
+                .increment();
+    }
+
+    private long retryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("inFlight", inFlight.get());
+        status.put("maxConcurrency", maxConcurrency);
+        limits.forEach((endpointClass, limit) -> status.put(endpointClass.tag(),
+                Map.of("limit", limit.getLimit(), "inFlight", limit.getInFlight())));
+        return status;
+    }
+
+    // One admitted request; released exactly once
+    public final class Permit {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final int inFlightAtStart;
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(AdaptiveConcurrencyLimit limit, int inFlightAtStart, long startNanos) {
+            this.limit = limit;
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        // Feeds the request latency into the class limit
+        public synchronized void release(boolean failed) {
+            if (!released) {
+                released = true;
+                inFlight.decrementAndGet();
+                limit.release(System.nanoTime() - startNanos, inFlightAtStart, failed);
+            }
+        }
+
+        // Async / streamed responses: their duration says nothing about server latency
+        public synchronized void releaseWithoutSample() {
+            if (!released) {
+                released = true;
+                inFlight.decrementAndGet();
+                limit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskflow.admission;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// GET /actuator/admission: current limit and in-flight requests per endpoint class
+@Component
+@Endpoint(id = "admission")
+public class AdmissionEndpoint {
+
+    @Autowired
+    private AdmissionControl admissionControl;
+
+    @ReadOperation
+    public Map<String, Object> admission() {
+        return admissionControl.status();
+    }
+}
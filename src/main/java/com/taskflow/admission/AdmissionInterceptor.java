@@ -0,0 +1,119 @@
+package com.taskflow.admission;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Admission check in front of the /api/** handlers (registered in AdmissionConfig;
+// actuator, /health and the SSE stream are not covered). Rejections are thrown
+// from preHandle and rendered by GlobalExceptionHandler, before any handler work.
+@Component
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    @Autowired
+    private AdmissionControl admissionControl;
+
+    private final Map<Method, EndpointClass> classes = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The async dispatch that finishes a streamed response was admitted on the first dispatch
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+
+        AdmissionControl.Permit permit = admissionControl.admit(classify(request, method));
+        if (permit != null) {
+            request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        AdmissionControl.Permit permit = (AdmissionControl.Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit == null) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            permit.releaseWithoutSample();
+        } else {
+            permit.release(ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    // afterCompletion only runs on the final async dispatch; release on timeout or error too
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        AdmissionControl.Permit permit = (AdmissionControl.Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit == null || !request.isAsyncStarted()) {
+            return;
+        }
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                permit.releaseWithoutSample();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                permit.releaseWithoutSample();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                permit.releaseWithoutSample();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    // Fixed per handler method, so computed once
+    private EndpointClass classify(HttpServletRequest request, HandlerMethod handler) {
+        return classes.computeIfAbsent(handler.getMethod(), method -> {
+            AdmissionClass declared = handler.getMethodAnnotation(AdmissionClass.class);
+            if (declared != null) {
+                return declared.value();
+            }
+
+            String httpMethod = request.getMethod();
+            if (!"GET".equals(httpMethod) && !"HEAD".equals(httpMethod)) {
+                return EndpointClass.WRITE;
+            }
+
+            ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+            if (StreamingResponseBody.class.isAssignableFrom(returnType.toClass())
+                    || StreamingResponseBody.class.isAssignableFrom(returnType.getGeneric(0).toClass())) {
+                return EndpointClass.EXPORT;
+            }
+
+            String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null && (pattern.endsWith("/{id}") || pattern.endsWith("/stats"))) {
+                return EndpointClass.READ;
+            }
+            return EndpointClass.LIST;
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskflow.admission;
+
+// Admission budgets are per class, so slow full-list calls cannot take the
+// capacity that cheap point reads and writes need
+public enum EndpointClass {
+
+    LIST(true),      // list / filter / search / page reads, cost grows with the table
+    EXPORT(true),    // streaming exports, hold a connection for the whole table
+    READ(false),     // single task by id, stats from in-memory counters
+    WRITE(false);    // POST / PUT / PATCH / DELETE
+
+    // Bulk classes are shed first when the whole server nears its concurrency cap
+    private final boolean bulk;
+
+    EndpointClass(boolean bulk) {
+        this.bulk = bulk;
+    }
+
+    public boolean isBulk() {
+        return bulk;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
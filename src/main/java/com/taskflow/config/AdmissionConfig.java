@@ -0,0 +1,23 @@
+package com.taskflow.config;
+
+import com.taskflow.admission.AdmissionInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private AdmissionInterceptor admissionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+
+        // Actuator and /health are outside /api and never shed; the change feed caps its own subscribers
+        registry.addInterceptor(admissionInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/tasks/stream");
+    }
+}
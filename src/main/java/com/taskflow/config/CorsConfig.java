@@ -15,8 +15,9 @@ public class CorsConfig implements WebMvcConfigurer {
                         "http://localhost:3000",
                         "https://taskflow-frontend-lac.vercel.app"
                 )
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "X-Consistency-Token", "Retry-After")   // If-None-Match; read-your-writes; backoff on 429/503
                 .allowCredentials(true);
     }
 }
\ No newline at end of file
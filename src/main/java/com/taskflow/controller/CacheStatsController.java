@@ -0,0 +1,52 @@
+package com.taskflow.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.taskflow.dto.CacheStatsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheStatsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheStatsController.class);
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    // STATS
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+
+        logger.info("GET /api/cache/stats - Fetching cache statistics");
+
+        List<CacheStatsResponse> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            // getNativeCache() also unwraps the transaction-aware decorator
+            if (cache != null
+                    && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                CacheStats cacheStats = nativeCache.stats();
+
+                stats.add(new CacheStatsResponse(
+                        name,
+                        nativeCache.estimatedSize(),
+                        cacheStats.hitCount(),
+                        cacheStats.missCount(),
+                        cacheStats.hitRate(),
+                        cacheStats.evictionCount()
+                ));
+            }
+        }
+
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflow.controller;
+
+import com.taskflow.dto.LaneStatsResponse;
+import com.taskflow.worker.TaskWorkerPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/dispatcher")
+@ConditionalOnProperty(name = "taskflow.worker.enabled", havingValue = "true")
+public class DispatcherStatsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DispatcherStatsController.class);
+
+    @Autowired
+    private TaskWorkerPool taskWorkerPool;
+
+    // LANE DEPTHS + WAIT TIMES PER PRIORITY
+    @GetMapping("/stats")
+    public ResponseEntity<List<LaneStatsResponse>> getDispatcherStats() {
+
+        logger.info("GET /api/dispatcher/stats - Fetching dispatcher lane statistics");
+        return ResponseEntity.ok(taskWorkerPool.getLaneStats());
+    }
+}
@@ -1,21 +1,57 @@
 package com.taskflow.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskflow.admission.AdmissionClass;
+import com.taskflow.admission.EndpointClass;
+import com.taskflow.dto.BatchResponse;
+import com.taskflow.dto.CursorPageResponse;
+import com.taskflow.dto.TaskBatchUpdateRequest;
+import com.taskflow.dto.TaskHistogramResponse;
+import com.taskflow.dto.TaskLookupResponse;
 import com.taskflow.dto.TaskRequest;
 import com.taskflow.dto.TaskResponse;
+import com.taskflow.dto.TaskStatsResponse;
+import com.taskflow.dto.TaskStatusBatchUpdateRequest;
+import com.taskflow.dto.TaskStatusUpdateRequest;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.exception.InvalidRequestException;
+import com.taskflow.feed.TaskChangeFeed;
+import com.taskflow.rollup.RollupResolution;
+import com.taskflow.rollup.TaskRollups;
+import com.taskflow.service.TaskChangeSequence;
+import com.taskflow.service.TaskCounters;
 import com.taskflow.service.TaskService;
+import com.taskflow.service.VersionedTaskList;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -23,9 +59,43 @@ public class TaskController {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    // Response formats in converter order (see BinaryFormatConfig)
+    private static final List<MediaType> TASK_FORMATS = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"));
+
+    private static final int STREAM_FLUSH_EVERY = 1000;
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private TaskRollups taskRollups;
+
+    @Autowired
+    private TaskChangeSequence taskChangeSequence;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Absent in non-web contexts (benchmarks); Accept header only then
+    @Autowired
+    private ObjectProvider<ContentNegotiationManager> contentNegotiationManager;
+
+    @Value("${taskflow.batch.max-size:1000}")
+    private int maxBatchSize;
+
     // CREATE
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(
@@ -36,13 +106,53 @@ public class TaskController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
-    // READ ALL
+    // CREATE BATCH
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createTasksBatch(
+            @RequestBody List<TaskRequest> requests) {
+
+        logger.info("POST /api/tasks/batch - Creating {} tasks", requests.size());
+        checkBatchSize(requests);
+        BatchResponse response = taskService.createTasks(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    // READ ALL (304 from the change sequence alone, before cache or database)
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
+    public ResponseEntity<List<TaskResponse>> getAllTasks(WebRequest webRequest) {
 
         logger.info("GET /api/tasks - Fetching all tasks");
-        List<TaskResponse> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+        return cachedListResponse(webRequest, taskService::getAllTasks);
+    }
+
+    // READ ALL AS NDJSON STREAM (one task per line, constant heap)
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+
+        logger.info("GET /api/tasks - Streaming all tasks as NDJSON");
+
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class);
+
+        StreamingResponseBody body = outputStream -> {
+            long[] written = {0};
+            taskService.streamAllTasks(task -> {
+                try {
+                    outputStream.write(writer.writeValueAsBytes(task));
+                    outputStream.write('\n');
+                    if (++written[0] % STREAM_FLUSH_EVERY == 0) {
+                        outputStream.flush();
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            outputStream.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .varyBy(HttpHeaders.ACCEPT)   // same URL as the JSON list
+                .body(body);
     }
 
     // READ ALL PAGINATED
@@ -51,7 +161,8 @@ public class TaskController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "ASC") String direction) {
+            @RequestParam(defaultValue = "ASC") String direction,
+            WebRequest webRequest) {
 
         logger.info("GET /api/tasks/paginated - Page: {}, Size: {}, SortBy: {}, Direction: {}",
                 page, size, sortBy, direction);
@@ -61,51 +172,151 @@ public class TaskController {
                 : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<TaskResponse> taskPage = taskService.getAllTasksPaginated(pageable);
+        return listResponse(webRequest, () -> {
+            Page<TaskResponse> taskPage = taskService.getAllTasksPaginated(pageable);
+
+            logger.info("Returning {} tasks out of {} total",
+                    taskPage.getNumberOfElements(),
+                    taskPage.getTotalElements());
+
+            return taskPage;
+        });
+    }
+
+    // READ ALL WITH CURSOR (keyset pagination, no OFFSET scan)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getTasksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            WebRequest webRequest) {
+
+        logger.info("GET /api/tasks/cursor - Size: {}, SortBy: {}, IncludeTotal: {}",
+                size, sortBy, includeTotal);
+
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        return listResponse(webRequest,
+                () -> taskService.getTasksByCursor(cursor, size, sortBy, includeTotal));
+    }
+
+    // CHANGE FEED (server-sent events, resumable with Last-Event-ID)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        logger.info("GET /api/tasks/stream - Subscribing (status={}, priority={}, lastEventId={})",
+                status, priority, lastEventId);
+
+        Long resumeAfter = null;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                resumeAfter = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException ex) {
+                throw new InvalidRequestException("Last-Event-ID must be a number", ex);
+            }
+        }
 
-        logger.info("Returning {} tasks out of {} total",
-                taskPage.getNumberOfElements(),
-                taskPage.getTotalElements());
+        return taskChangeFeed.subscribe(status, priority, resumeAfter);
+    }
+
+    // STATS (in-memory counters, no database access)
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponse> getTaskStats() {
+
+        logger.info("GET /api/tasks/stats - Fetching task counts");
+        return ResponseEntity.ok(taskCounters.snapshot());
+    }
+
+    // HISTOGRAM (created / completed / failed per minute, hour or day, from the rollups)
+    @GetMapping("/histogram")
+    @AdmissionClass(EndpointClass.READ)
+    public ResponseEntity<TaskHistogramResponse> getTaskHistogram(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "hour") String bucket,
+            @RequestParam(required = false) TaskPriority priority) {
 
-        return ResponseEntity.ok(taskPage);
+        logger.info("GET /api/tasks/histogram - {} buckets from {} to {}", bucket, from, to);
+        return ResponseEntity.ok(
+                taskRollups.histogram(RollupResolution.fromParameter(bucket), from, to, priority));
     }
 
-    // READ ONE
+    // READ ONE (strong ETag from id + version + format; a cache hit answers 304 without the database)
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, NativeWebRequest webRequest) {
 
         logger.info("GET /api/tasks/{} - Fetching task", id);
         TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+
+        // Strong validators are byte-exact, so the JSON, CBOR and Smile bodies each get their own
+        String etag = "\"" + task.getId() + "-" + task.getVersion() + "-"
+                + negotiatedFormat(webRequest).getSubtype() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(task);
+    }
+
+    // READ MANY BY ID (GET /api/tasks?ids=1,2,3)
+    @GetMapping(params = "ids")
+    @AdmissionClass(EndpointClass.READ)
+    public ResponseEntity<TaskLookupResponse> getTasksByIds(@RequestParam List<Long> ids) {
+
+        logger.info("GET /api/tasks?ids - Fetching {} tasks", ids.size());
+        return ResponseEntity.ok(lookup(ids));
+    }
+
+    // READ MANY BY ID, for id lists too long for a URL
+    @PostMapping("/lookup")
+    @AdmissionClass(EndpointClass.READ)
+    public ResponseEntity<TaskLookupResponse> lookupTasks(@RequestBody List<Long> ids) {
+
+        logger.info("POST /api/tasks/lookup - Fetching {} tasks", ids.size());
+        return ResponseEntity.ok(lookup(ids));
     }
 
     // READ BY STATUS
     @GetMapping("/status/{status}")
     public ResponseEntity<List<TaskResponse>> getTasksByStatus(
-            @PathVariable String status) {
+            @PathVariable TaskStatus status,
+            WebRequest webRequest) {
 
         logger.info("GET /api/tasks/status/{} - Fetching tasks by status", status);
-        List<TaskResponse> tasks = taskService.getTasksByStatus(status);
-        return ResponseEntity.ok(tasks);
+        return cachedListResponse(webRequest, () -> taskService.getTasksByStatus(status));
     }
 
     // READ BY PRIORITY
     @GetMapping("/priority/{priority}")
     public ResponseEntity<List<TaskResponse>> getTasksByPriority(
-            @PathVariable String priority) {
+            @PathVariable TaskPriority priority,
+            WebRequest webRequest) {
 
         logger.info("GET /api/tasks/priority/{} - Fetching tasks by priority", priority);
-        List<TaskResponse> tasks = taskService.getTasksByPriority(priority);
-        return ResponseEntity.ok(tasks);
+        return cachedListResponse(webRequest, () -> taskService.getTasksByPriority(priority));
     }
 
     // SEARCH BY NAME
     @GetMapping("/search")
     public ResponseEntity<List<TaskResponse>> searchTasks(
-            @RequestParam String keyword) {
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        logger.info("GET /api/tasks/search?keyword={}&limit={} - Searching tasks", keyword, limit);
 
-        logger.info("GET /api/tasks/search?keyword={} - Searching tasks", keyword);
-        List<TaskResponse> tasks = taskService.searchTasksByName(keyword);
+        if (keyword.isBlank()) {
+            throw new InvalidRequestException("keyword cannot be empty");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+
+        List<TaskResponse> tasks = taskService.searchTasksByName(keyword, limit);
         return ResponseEntity.ok(tasks);
     }
 
@@ -120,6 +331,39 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    // UPDATE STATUS (single conditional UPDATE; 409 if the task is no longer in expectedStatus)
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<TaskResponse> updateTaskStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody TaskStatusUpdateRequest request) {
+
+        logger.info("PATCH /api/tasks/{}/status - {} -> {}", id, request.getExpectedStatus(), request.getStatus());
+        TaskResponse updatedTask = taskService.updateTaskStatus(id, request.getExpectedStatus(), request.getStatus());
+        return ResponseEntity.ok(updatedTask);
+    }
+
+    // UPDATE STATUS BATCH
+    @PatchMapping("/batch/status")
+    public ResponseEntity<BatchResponse> updateTaskStatusesBatch(
+            @RequestBody List<TaskStatusBatchUpdateRequest> requests) {
+
+        logger.info("PATCH /api/tasks/batch/status - Updating status of {} tasks", requests.size());
+        checkBatchSize(requests);
+        BatchResponse response = taskService.updateTaskStatuses(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    // UPDATE BATCH
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResponse> updateTasksBatch(
+            @RequestBody List<TaskBatchUpdateRequest> requests) {
+
+        logger.info("PUT /api/tasks/batch - Updating {} tasks", requests.size());
+        checkBatchSize(requests);
+        BatchResponse response = taskService.updateTasks(requests);
+        return ResponseEntity.ok(response);
+    }
+
     // DELETE
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
@@ -128,4 +372,76 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    // DELETE BATCH
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResponse> deleteTasksBatch(
+            @RequestBody List<Long> ids) {
+
+        logger.info("DELETE /api/tasks/batch - Deleting {} tasks", ids.size());
+        checkBatchSize(ids);
+        if (ids.contains(null)) {
+            throw new InvalidRequestException("Batch delete ids cannot contain null");
+        }
+        BatchResponse response = taskService.deleteTasks(ids);
+        return ResponseEntity.ok(response);
+    }
+
+    // List ETag = change sequence (this instance's writes at once, other instances' within
+    // the TaskChangeWatcher interval), read before the list so a racing write can only make
+    // the tag older than the body (a later request then gets a 200)
+    private <T> ResponseEntity<T> listResponse(WebRequest webRequest, Supplier<T> body) {
+        String etag = taskChangeSequence.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(body.get());
+    }
+
+    // Lists from TaskListCache carry the sequence they reflect: a list served stale while
+    // its refresh runs keeps the older tag it was loaded under
+    private ResponseEntity<List<TaskResponse>> cachedListResponse(WebRequest webRequest,
+                                                                  Supplier<VersionedTaskList> body) {
+        String etag = taskChangeSequence.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        VersionedTaskList list = body.get();
+        return ResponseEntity.ok()
+                .eTag(taskChangeSequence.etag(list.sequence()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(list.tasks());
+    }
+
+    // The body format the message converters pick for this request: the first acceptable
+    // of JSON, CBOR and Smile, so JSON for */* or no Accept header
+    private MediaType negotiatedFormat(NativeWebRequest webRequest) {
+        try {
+            for (MediaType accepted : contentNegotiationManager
+                    .getIfAvailable(ContentNegotiationManager::new).resolveMediaTypes(webRequest)) {
+                for (MediaType format : TASK_FORMATS) {
+                    if (accepted.isCompatibleWith(format)) {
+                        return format;
+                    }
+                }
+            }
+        } catch (HttpMediaTypeNotAcceptableException ex) {
+            // Unparseable Accept header: the converters reject the request anyway
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    private TaskLookupResponse lookup(List<Long> ids) {
+        checkBatchSize(ids);
+        if (ids.contains(null)) {
+            throw new InvalidRequestException("Task ids cannot contain null");
+        }
+        return taskService.getTasksByIds(ids);
+    }
+
+    private void checkBatchSize(List<?> items) {
+        if (items.isEmpty() || items.size() > maxBatchSize) {
+            throw new InvalidRequestException("Batch must contain between 1 and " + maxBatchSize + " items");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.taskflow.dto;
+
+public class BatchItemResult {
+
+    // Outcome of a single item in a batch request
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        DELETED,
+        INVALID,
+        NOT_FOUND,
+        CONFLICT        // compare-and-set did not apply, the task is in another state
+    }
+
+    private int index;
+    private Long id;
+    private Outcome outcome;
+    private String message;
+    private TaskResponse task;
+
+    // Constructors
+    public BatchItemResult() {
+    }
+
+    public BatchItemResult(int index, Long id, Outcome outcome, String message, TaskResponse task) {
+        this.index = index;
+        this.id = id;
+        this.outcome = outcome;
+        this.message = message;
+        this.task = task;
+    }
+
+    public static BatchItemResult success(int index, Outcome outcome, TaskResponse task) {
+        return new BatchItemResult(index, task.getId(), outcome, null, task);
+    }
+
+    public static BatchItemResult failure(int index, Long id, Outcome outcome, String message) {
+        return new BatchItemResult(index, id, outcome, message, null);
+    }
+
+    public boolean isSuccess() {
+        return outcome == Outcome.CREATED || outcome == Outcome.UPDATED || outcome == Outcome.DELETED;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public TaskResponse getTask() {
+        return task;
+    }
+
+    public void setTask(TaskResponse task) {
+        this.task = task;
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskflow.dto;
+
+import java.util.List;
+
+public class BatchResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResult> results;
+
+    // Constructors
+    public BatchResponse() {
+    }
+
+    public BatchResponse(List<BatchItemResult> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(BatchItemResult::isSuccess).count();
+        this.failed = this.total - this.succeeded;
+    }
+
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BatchItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchItemResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskflow.dto;
+
+public class CacheStatsResponse {
+
+    private String cacheName;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+
+    // Constructors
+    public CacheStatsResponse() {
+    }
+
+    public CacheStatsResponse(String cacheName, long size, long hitCount, long missCount,
+                              double hitRate, long evictionCount) {
+        this.cacheName = cacheName;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+    }
+
+    // Getters and Setters
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public void setEvictionCount(long evictionCount) {
+        this.evictionCount = evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatsResponse{" +
+                "cacheName='" + cacheName + '\'' +
+                ", size=" + size +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", hitRate=" + hitRate +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskPriority;
+
+public class LaneStatsResponse {
+
+    private TaskPriority priority;
+    private int weight;
+    private int depth;
+    private long dispatched;
+    private long promoted;        // dispatched early by aging
+    private long avgWaitMillis;   // created -> picked up by a worker
+    private long maxWaitMillis;
+
+    // Constructors
+    public LaneStatsResponse() {
+    }
+
+    public LaneStatsResponse(TaskPriority priority, int weight, int depth, long dispatched,
+                             long promoted, long avgWaitMillis, long maxWaitMillis) {
+        this.priority = priority;
+        this.weight = weight;
+        this.depth = depth;
+        this.dispatched = dispatched;
+        this.promoted = promoted;
+        this.avgWaitMillis = avgWaitMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    // Getters and Setters
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public long getDispatched() {
+        return dispatched;
+    }
+
+    public void setDispatched(long dispatched) {
+        this.dispatched = dispatched;
+    }
+
+    public long getPromoted() {
+        return promoted;
+    }
+
+    public void setPromoted(long promoted) {
+        this.promoted = promoted;
+    }
+
+    public long getAvgWaitMillis() {
+        return avgWaitMillis;
+    }
+
+    public void setAvgWaitMillis(long avgWaitMillis) {
+        this.avgWaitMillis = avgWaitMillis;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public void setMaxWaitMillis(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+public class TaskBatchUpdateRequest extends TaskRequest {
+
+    @NotNull(message = "Id is required")
+    private Long id;
+
+    // ================= CONSTRUCTORS =================
+    public TaskBatchUpdateRequest() {
+    }
+
+    public TaskBatchUpdateRequest(Long id, String name, TaskPriority priority, TaskStatus status) {
+        super(name, priority, status);
+        this.id = id;
+    }
+
+    // ================= GETTERS & SETTERS =================
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskBatchUpdateRequest{" +
+                "id=" + id +
+                ", name='" + getName() + '\'' +
+                ", priority=" + getPriority() +
+                ", status=" + getStatus() +
+                '}';
+    }
+}
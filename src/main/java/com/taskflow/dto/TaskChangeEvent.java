@@ -0,0 +1,100 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+
+// One entry of the /api/tasks/stream change feed. previousStatus/previousPriority
+// are set when they changed, so a client filtered on QUEUED also sees a task leave it.
+public class TaskChangeEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private long sequence;
+    private Type type;
+    private Long taskId;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private TaskStatus previousStatus;
+    private TaskPriority previousPriority;
+    private TaskResponse task;          // state after the change, null for DELETED
+
+    public TaskChangeEvent() {
+    }
+
+    public TaskChangeEvent(Type type, Long taskId, TaskStatus status, TaskPriority priority,
+                           TaskStatus previousStatus, TaskPriority previousPriority, TaskResponse task) {
+        this.type = type;
+        this.taskId = taskId;
+        this.status = status;
+        this.priority = priority;
+        this.previousStatus = previousStatus;
+        this.previousPriority = previousPriority;
+        this.task = task;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public TaskStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(TaskStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public TaskPriority getPreviousPriority() {
+        return previousPriority;
+    }
+
+    public void setPreviousPriority(TaskPriority previousPriority) {
+        this.previousPriority = previousPriority;
+    }
+
+    public TaskResponse getTask() {
+        return task;
+    }
+
+    public void setTask(TaskResponse task) {
+        this.task = task;
+    }
+}
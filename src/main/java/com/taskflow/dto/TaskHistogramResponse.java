@@ -0,0 +1,118 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskPriority;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TaskHistogramResponse {
+
+    private String bucket;              // minute, hour or day
+    private LocalDateTime from;         // first bucket start
+    private LocalDateTime to;           // exclusive
+    private TaskPriority priority;      // filter, null for all priorities
+    private List<Bucket> buckets;       // every bucket in range, empty ones included
+
+    // Constructors
+    public TaskHistogramResponse() {
+    }
+
+    public TaskHistogramResponse(String bucket, LocalDateTime from, LocalDateTime to,
+                                 TaskPriority priority, List<Bucket> buckets) {
+        this.bucket = bucket;
+        this.from = from;
+        this.to = to;
+        this.priority = priority;
+        this.buckets = buckets;
+    }
+
+    // Getters and Setters
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<Bucket> buckets) {
+        this.buckets = buckets;
+    }
+
+    public static class Bucket {
+
+        private LocalDateTime start;
+        private long created;
+        private long completed;
+        private long failed;
+
+        // Constructors
+        public Bucket() {
+        }
+
+        public Bucket(LocalDateTime start) {
+            this.start = start;
+        }
+
+        // Getters and Setters
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public void setStart(LocalDateTime start) {
+            this.start = start;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+
+        public void setCreated(long created) {
+            this.created = created;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public void setCompleted(long completed) {
+            this.completed = completed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public void setFailed(long failed) {
+            this.failed = failed;
+        }
+    }
+}
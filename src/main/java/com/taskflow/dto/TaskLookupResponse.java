@@ -0,0 +1,35 @@
+package com.taskflow.dto;
+
+import java.util.List;
+
+public class TaskLookupResponse {
+
+    private List<TaskResponse> tasks;   // in request order, duplicates removed
+    private List<Long> missing;         // requested ids that do not exist
+
+    // Constructors
+    public TaskLookupResponse() {
+    }
+
+    public TaskLookupResponse(List<TaskResponse> tasks, List<Long> missing) {
+        this.tasks = tasks;
+        this.missing = missing;
+    }
+
+    // Getters and Setters
+    public List<TaskResponse> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskResponse> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<Long> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(List<Long> missing) {
+        this.missing = missing;
+    }
+}
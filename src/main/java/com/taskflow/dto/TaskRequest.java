@@ -1,7 +1,8 @@
 package com.taskflow.dto;
 
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 public class TaskRequest {
@@ -10,19 +11,16 @@ public class TaskRequest {
     @Size(min = 3, max = 255, message = "Name must be between 3 and 255 characters")
     private String name;
 
-    @Pattern(regexp = "HIGH|MEDIUM|LOW",
-            message = "Priority must be HIGH, MEDIUM, or LOW")
-    private String priority;
+    // Unknown values are rejected by Jackson when binding the enum (400 via GlobalExceptionHandler)
+    private TaskPriority priority;
 
-    @Pattern(regexp = "QUEUED|COMPLETED|FAILED|IN_PROGRESS",
-            message = "Status must be QUEUED, COMPLETED, FAILED, or IN_PROGRESS")
-    private String status;   // 🔥 ADDED
+    private TaskStatus status;   // 🔥 ADDED
 
     // ================= CONSTRUCTORS =================
     public TaskRequest() {
     }
 
-    public TaskRequest(String name, String priority, String status) {
+    public TaskRequest(String name, TaskPriority priority, TaskStatus status) {
         this.name = name;
         this.priority = priority;
         this.status = status;
@@ -39,20 +37,20 @@ public class TaskRequest {
         this.name = name;
     }
 
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
+    public void setPriority(TaskPriority priority) {
         this.priority = priority;
     }
 
     // 🔥 ADDED
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
 
@@ -60,8 +58,8 @@ public class TaskRequest {
     public String toString() {
         return "TaskRequest{" +
                 "name='" + name + '\'' +
-                ", priority='" + priority + '\'' +
-                ", status='" + status + '\'' +
+                ", priority=" + priority +
+                ", status=" + status +
                 '}';
     }
 }
\ No newline at end of file
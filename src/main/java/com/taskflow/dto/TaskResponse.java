@@ -1,5 +1,8 @@
 package com.taskflow.dto;
 
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
@@ -9,23 +12,25 @@ public class TaskResponse implements Serializable {
 
     private Long id;
     private String name;
-    private String status;
-    private String priority;
+    private TaskStatus status;
+    private TaskPriority priority;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;
 
     // Constructors
     public TaskResponse() {
     }
 
-    public TaskResponse(Long id, String name, String status, String priority,
-                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public TaskResponse(Long id, String name, TaskStatus status, TaskPriority priority,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
         this.id = id;
         this.name = name;
         this.status = status;
         this.priority = priority;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     // Getters and Setters
@@ -45,19 +50,19 @@ public class TaskResponse implements Serializable {
         this.name = name;
     }
 
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
 
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
+    public void setPriority(TaskPriority priority) {
         this.priority = priority;
     }
 
@@ -77,15 +82,24 @@ public class TaskResponse implements Serializable {
         this.updatedAt = updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "TaskResponse{" +
                 "id=" + id +
                 ", name='" + name + '\'' +
-                ", status='" + status + '\'' +
-                ", priority='" + priority + '\'' +
+                ", status=" + status +
+                ", priority=" + priority +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class TaskStatsResponse {
+
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<TaskPriority, Long> byPriority;
+    private Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority;
+    private LocalDateTime lastReconciledAt;   // last correction against the database
+
+    // Constructors
+    public TaskStatsResponse() {
+    }
+
+    public TaskStatsResponse(long total, Map<TaskStatus, Long> byStatus, Map<TaskPriority, Long> byPriority,
+                             Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority,
+                             LocalDateTime lastReconciledAt) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byPriority = byPriority;
+        this.byStatusAndPriority = byStatusAndPriority;
+        this.lastReconciledAt = lastReconciledAt;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<TaskStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<TaskStatus, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<TaskPriority, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public void setByPriority(Map<TaskPriority, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+
+    public Map<TaskStatus, Map<TaskPriority, Long>> getByStatusAndPriority() {
+        return byStatusAndPriority;
+    }
+
+    public void setByStatusAndPriority(Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority) {
+        this.byStatusAndPriority = byStatusAndPriority;
+    }
+
+    public LocalDateTime getLastReconciledAt() {
+        return lastReconciledAt;
+    }
+
+    public void setLastReconciledAt(LocalDateTime lastReconciledAt) {
+        this.lastReconciledAt = lastReconciledAt;
+    }
+}
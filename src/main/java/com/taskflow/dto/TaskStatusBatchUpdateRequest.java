@@ -0,0 +1,38 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+public class TaskStatusBatchUpdateRequest extends TaskStatusUpdateRequest {
+
+    @NotNull(message = "Id is required")
+    private Long id;
+
+    // ================= CONSTRUCTORS =================
+    public TaskStatusBatchUpdateRequest() {
+    }
+
+    public TaskStatusBatchUpdateRequest(Long id, TaskStatus expectedStatus, TaskStatus status) {
+        super(expectedStatus, status);
+        this.id = id;
+    }
+
+    // ================= GETTERS & SETTERS =================
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskStatusBatchUpdateRequest{" +
+                "id=" + id +
+                ", expectedStatus=" + getExpectedStatus() +
+                ", status=" + getStatus() +
+                '}';
+    }
+}
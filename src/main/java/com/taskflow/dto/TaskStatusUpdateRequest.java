@@ -0,0 +1,49 @@
+package com.taskflow.dto;
+
+import com.taskflow.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+// Compare-and-set status change: applied only while the task is still in expectedStatus
+public class TaskStatusUpdateRequest {
+
+    @NotNull(message = "Expected status is required")
+    private TaskStatus expectedStatus;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+
+    // ================= CONSTRUCTORS =================
+    public TaskStatusUpdateRequest() {
+    }
+
+    public TaskStatusUpdateRequest(TaskStatus expectedStatus, TaskStatus status) {
+        this.expectedStatus = expectedStatus;
+        this.status = status;
+    }
+
+    // ================= GETTERS & SETTERS =================
+
+    public TaskStatus getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public void setExpectedStatus(TaskStatus expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskStatusUpdateRequest{" +
+                "expectedStatus=" + expectedStatus +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -1,7 +1,6 @@
 package com.taskflow.entity;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
@@ -11,7 +10,8 @@ import java.time.LocalDateTime;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+    @SequenceGenerator(name = "task_id_seq", sequenceName = "task_id_seq", allocationSize = 50)  // pooled, enables insert batching
     private Long id;
 
     @NotBlank(message = "Name cannot be empty")
@@ -19,15 +19,11 @@ public class Task {
     @Column(nullable = false)
     private String name;
 
-    @Pattern(regexp = "QUEUED|IN_PROGRESS|COMPLETED|FAILED",
-            message = "Status must be QUEUED, IN_PROGRESS, COMPLETED, or FAILED")
     @Column(nullable = false)
-    private String status;
+    private TaskStatus status;          // smallint code via TaskStatusConverter
 
-    @Pattern(regexp = "HIGH|MEDIUM|LOW",
-            message = "Priority must be HIGH, MEDIUM, or LOW")
     @Column(nullable = false)
-    private String priority;
+    private TaskPriority priority;      // smallint code via TaskPriorityConverter
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -35,6 +31,24 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private long version;               // optimistic lock, bumped on every update; part of the ETag
+
+    // ================= WORKER LEASE =================
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;          // worker node currently holding the task
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;   // renewed by heartbeats, reaped when expired
+
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
     // ================= LIFECYCLE =================
 
     @PrePersist
@@ -44,7 +58,7 @@ public class Task {
 
         // Set default status ONLY if null
         if (this.status == null) {
-            this.status = "QUEUED";
+            this.status = TaskStatus.QUEUED;
         }
     }
 
@@ -58,7 +72,7 @@ public class Task {
     public Task() {
     }
 
-    public Task(String name, String priority, String status) {
+    public Task(String name, TaskPriority priority, TaskStatus status) {
         this.name = name;
         this.priority = priority;
         this.status = status;
@@ -82,19 +96,19 @@ public class Task {
         this.name = name;
     }
 
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
 
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
+    public void setPriority(TaskPriority priority) {
         this.priority = priority;
     }
 
@@ -114,15 +128,56 @@ public class Task {
         this.updatedAt = updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
     @Override
     public String toString() {
         return "Task{" +
                 "id=" + id +
                 ", name='" + name + '\'' +
-                ", status='" + status + '\'' +
-                ", priority='" + priority + '\'' +
+                ", status=" + status +
+                ", priority=" + priority +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
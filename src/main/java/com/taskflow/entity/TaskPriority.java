@@ -0,0 +1,29 @@
+package com.taskflow.entity;
+
+// Stored as a smallint code (see TaskPriorityConverter). Codes follow urgency,
+// so ORDER BY priority DESC means HIGH > MEDIUM > LOW.
+public enum TaskPriority {
+
+    HIGH(3),
+    MEDIUM(2),
+    LOW(1);
+
+    private final short code;
+
+    TaskPriority(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static TaskPriority fromCode(short code) {
+        for (TaskPriority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task priority code: " + code);
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskflow.entity;
+
+// Stored as a smallint code (see TaskStatusConverter); codes must never be reused
+public enum TaskStatus {
+
+    QUEUED(0),
+    IN_PROGRESS(1),
+    COMPLETED(2),
+    FAILED(3);
+
+    private final short code;
+
+    TaskStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    // Legal lifecycle moves (PATCH /api/tasks/{id}/status): COMPLETED is final,
+    // FAILED can only be retried, IN_PROGRESS can be handed back to the queue
+    public boolean canTransitionTo(TaskStatus target) {
+        switch (this) {
+            case QUEUED:
+                return target == IN_PROGRESS || target == FAILED;
+            case IN_PROGRESS:
+                return target == COMPLETED || target == FAILED || target == QUEUED;
+            case FAILED:
+                return target == QUEUED;
+            default:
+                return false;
+        }
+    }
+
+    public static TaskStatus fromCode(short code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
+}
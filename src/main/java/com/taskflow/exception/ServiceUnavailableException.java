@@ -0,0 +1,24 @@
+package com.taskflow.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;   // 0 = no Retry-After header
+
+    public ServiceUnavailableException(String message) {
+        this(message, 0);
+    }
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = 0;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
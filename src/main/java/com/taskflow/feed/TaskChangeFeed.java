@@ -0,0 +1,438 @@
+package com.taskflow.feed;
+
+import com.taskflow.dto.TaskChangeEvent;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.exception.ServiceUnavailableException;
+import com.taskflow.service.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Server-sent change feed behind GET /api/tasks/stream.
+// Writers append to a fixed-size ring after commit and return: they never wait
+// on a subscriber. One dispatch thread hands the subscribers that are behind to
+// a small sender pool. A subscriber only holds a cursor into the ring, so slow
+// clients cost no memory; one that falls further behind than the ring holds gets
+// a "reset" event (refetch the list) and continues from the newest change.
+// Sends block on the client's socket, so each one has a deadline: a watchdog drops
+// a subscriber whose send runs past send-timeout, starts a replacement sender
+// thread while that send is stuck, and the emitter is completed once it returns.
+// A drain also yields its thread after max-drain-time. Heartbeats go through the
+// same per-subscriber drain, so at most one task per subscriber is ever queued.
+// Sequences start at the boot time in microseconds, so a Last-Event-ID from an
+// earlier run is always older than the ring and resumes as a reset.
+@Component
+public class TaskChangeFeed implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    private static final int SEND_CHUNK = 256;
+
+    private static final long RECONNECT_MILLIS = 3000;
+
+    @Value("${taskflow.feed.buffer-size:10000}")
+    private int bufferSize;
+
+    @Value("${taskflow.feed.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    @Value("${taskflow.feed.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${taskflow.feed.heartbeat-interval:15s}")
+    private Duration heartbeatInterval;
+
+    // A send blocked longer than this (client not reading) drops the subscriber
+    @Value("${taskflow.feed.send-timeout:5s}")
+    private Duration sendTimeout;
+
+    // A drain gives its sender thread back after this and is rescheduled behind the others
+    @Value("${taskflow.feed.max-drain-time:200ms}")
+    private Duration maxDrainTime;
+
+    // Replacement sender threads for sends stuck past send-timeout, at most this many at once
+    @Value("${taskflow.feed.max-stalled-sends:32}")
+    private int maxStalledSends;
+
+    // Clients reconnect with Last-Event-ID after this, so abandoned connections are reclaimed
+    @Value("${taskflow.feed.emitter-timeout:30m}")
+    private Duration emitterTimeout;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Object ringLock = new Object();
+    private TaskChangeEvent[] ring;                 // guarded by ringLock
+    private long firstSequence;
+    private volatile long headSequence;             // next sequence to assign, written under ringLock
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+
+    private volatile boolean running;
+    private ExecutorService dispatcher;
+    private ThreadPoolExecutor senders;
+    private ScheduledExecutorService heartbeats;
+    private Counter resets;
+    private Counter stalls;
+
+    private final Object stallLock = new Object();
+    private int stalledSends;                       // guarded by stallLock
+
+    // ================= LIFECYCLE =================
+
+    @Override
+    public void start() {
+        ring = new TaskChangeEvent[bufferSize];
+        firstSequence = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        headSequence = firstSequence;
+
+        dispatcher = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("task-feed-dispatch-"));
+        senders = (ThreadPoolExecutor) Executors.newFixedThreadPool(
+                senderThreads, new CustomizableThreadFactory("task-feed-send-"));
+        heartbeats = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("task-feed-heartbeat-"));
+        heartbeats.scheduleWithFixedDelay(this::heartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        long watchdogMillis = Math.max(100, sendTimeout.toMillis() / 4);
+        heartbeats.scheduleWithFixedDelay(this::checkStalledSends,
+                watchdogMillis, watchdogMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("taskflow.feed.subscribers", subscribers, Set::size)
+                .description("Open /api/tasks/stream connections")
+                .register(meterRegistry);
+        resets = Counter.builder("taskflow.feed.resets")
+                .description("Subscribers told to refetch because they fell behind the ring")
+                .register(meterRegistry);
+        stalls = Counter.builder("taskflow.feed.stalls")
+                .description("Subscribers dropped because a send blocked past the send timeout")
+                .register(meterRegistry);
+
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        // Completing lets clients reconnect elsewhere instead of holding shutdown for the emitter timeout
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+
+        heartbeats.shutdownNow();
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ================= PUBLISH (from write paths, applied after commit) =================
+
+    public void created(Task task) {
+        publish(TaskChangeEvent.Type.CREATED, task, null, null);
+    }
+
+    public void updated(Task task, TaskStatus previousStatus, TaskPriority previousPriority) {
+        publish(TaskChangeEvent.Type.UPDATED, task, previousStatus, previousPriority);
+    }
+
+    public void deleted(Task task) {
+        publish(TaskChangeEvent.Type.DELETED, task, null, null);
+    }
+
+    // The event is built after commit, when version and updatedAt have been flushed
+    private void publish(TaskChangeEvent.Type type, Task task,
+                         TaskStatus previousStatus, TaskPriority previousPriority) {
+        TransactionCallbacks.afterCommit(() -> append(new TaskChangeEvent(
+                type,
+                task.getId(),
+                task.getStatus(),
+                task.getPriority(),
+                previousStatus != task.getStatus() ? previousStatus : null,
+                previousPriority != task.getPriority() ? previousPriority : null,
+                type == TaskChangeEvent.Type.DELETED ? null : toResponse(task))));
+    }
+
+    private void append(TaskChangeEvent event) {
+        if (!running) {
+            return;
+        }
+        synchronized (ringLock) {
+            event.setSequence(headSequence);
+            ring[index(headSequence)] = event;
+            headSequence++;
+        }
+        if (dispatchPending.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    // ================= SUBSCRIBE =================
+
+    // lastEventId: resume after this event; null starts with the next change
+    public SseEmitter subscribe(TaskStatus status, TaskPriority priority, Long lastEventId) {
+        if (!running || subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Change feed is at capacity, retry later");
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, status, priority);
+
+        long head = headSequence;
+        if (lastEventId == null) {
+            subscriber.cursor = head;
+        } else if (lastEventId >= head) {
+            subscriber.cursor = -1;   // not issued by this run: forces a reset
+        } else {
+            subscriber.cursor = lastEventId + 1;
+        }
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("subscribed"));
+        } catch (IOException ex) {
+            emitter.completeWithError(ex);
+            return emitter;
+        }
+
+        subscribers.add(subscriber);
+        schedule(subscriber);
+
+        logger.debug("Change feed subscriber added (status={}, priority={}, lastEventId={}), {} open",
+                status, priority, lastEventId, subscribers.size());
+        return emitter;
+    }
+
+    // ================= DELIVERY =================
+
+    private void dispatch() {
+        dispatchPending.set(false);
+        long head = headSequence;
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.cursor < head) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (running && subscriber.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    // At most one drain per subscriber at a time (scheduled flag), so cursor needs no lock
+    private void drain(Subscriber subscriber) {
+        long deadline = System.nanoTime() + maxDrainTime.toNanos();
+        boolean sent = false;
+        try {
+            while (subscribers.contains(subscriber) && System.nanoTime() - deadline < 0) {
+                List<TaskChangeEvent> events = new ArrayList<>();
+                boolean lagged;
+
+                synchronized (ringLock) {
+                    long oldest = Math.max(firstSequence, headSequence - ring.length);
+                    lagged = subscriber.cursor < oldest;
+                    if (lagged) {
+                        subscriber.cursor = headSequence;
+                    } else {
+                        for (long seq = subscriber.cursor; seq < headSequence && events.size() < SEND_CHUNK; seq++) {
+                            events.add(ring[index(seq)]);
+                        }
+                        subscriber.cursor += events.size();
+                    }
+                }
+
+                if (lagged) {
+                    resets.increment();
+                    send(subscriber, SseEmitter.event()
+                            .name("reset")
+                            .data(Map.of("reason", "missed changes, reload the task list"), MediaType.APPLICATION_JSON));
+                    sent = true;
+                    continue;
+                }
+                if (events.isEmpty()) {
+                    break;
+                }
+
+                for (TaskChangeEvent event : events) {
+                    if (subscriber.matches(event)) {
+                        send(subscriber, SseEmitter.event()
+                                .id(Long.toString(event.getSequence()))
+                                .name(event.getType().name())
+                                .data(event, MediaType.APPLICATION_JSON));
+                        sent = true;
+                    }
+                }
+            }
+
+            // Any event already proves the connection alive
+            if (subscriber.heartbeatDue && subscribers.contains(subscriber)) {
+                subscriber.heartbeatDue = false;
+                if (!sent) {
+                    send(subscriber, SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away (or the emitter already completed)
+            subscribers.remove(subscriber);
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        if (releaseStalled(subscriber)) {
+            subscriber.emitter.complete();
+            return;
+        }
+
+        // A change or heartbeat that arrived after the last read but before the flag was
+        // cleared, or a drain that ran out of time
+        if (subscribers.contains(subscriber) && (subscriber.cursor < headSequence || subscriber.heartbeatDue)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStartedNanos = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedNanos = 0;
+        }
+    }
+
+    // Comment lines keep idle connections open through proxies and detect dead clients.
+    // Only flags the subscriber: a drain that is already queued or running sends it.
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }
+    }
+
+    // ================= STALLED SENDS =================
+
+    // A blocked send cannot be interrupted; the subscriber is dropped and its sender thread
+    // is replaced until the send returns (the container's write timeout ends it at the latest)
+    private void checkStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started == 0 || now - started < sendTimeout.toNanos()) {
+                continue;
+            }
+
+            synchronized (stallLock) {
+                if (subscriber.stalled) {
+                    continue;
+                }
+                subscriber.stalled = true;
+                if (stalledSends < maxStalledSends) {
+                    stalledSends++;
+                    subscriber.replaced = true;
+                    resizeSenders(senderThreads + stalledSends);
+                }
+            }
+            subscribers.remove(subscriber);
+            stalls.increment();
+            logger.warn("Change feed subscriber dropped: a send blocked for more than {}", sendTimeout);
+        }
+    }
+
+    // True when the watchdog dropped this subscriber during the drain that just ended
+    private boolean releaseStalled(Subscriber subscriber) {
+        synchronized (stallLock) {
+            if (!subscriber.stalled) {
+                return false;
+            }
+            if (subscriber.replaced) {
+                subscriber.replaced = false;
+                stalledSends--;
+                resizeSenders(senderThreads + stalledSends);
+            }
+            return true;
+        }
+    }
+
+    // Core size above queued work starts threads at once; extra idle threads exit when it shrinks
+    private void resizeSenders(int size) {
+        if (size > senders.getMaximumPoolSize()) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private int index(long sequence) {
+        return (int) Math.floorMod(sequence, (long) ring.length);
+    }
+
+    private static TaskResponse toResponse(Task task) {
+        return new TaskResponse(task.getId(), task.getName(), task.getStatus(), task.getPriority(),
+                task.getCreatedAt(), task.getUpdatedAt(), task.getVersion());
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final TaskStatus status;        // null = any
+        private final TaskPriority priority;    // null = any
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long cursor;           // next sequence to send
+        private volatile boolean heartbeatDue;
+        private volatile long sendStartedNanos; // 0 while no send is in progress
+        private boolean stalled;                // guarded by stallLock
+        private boolean replaced;               // guarded by stallLock: a replacement sender was started
+
+        private Subscriber(SseEmitter emitter, TaskStatus status, TaskPriority priority) {
+            this.emitter = emitter;
+            this.status = status;
+            this.priority = priority;
+        }
+
+        // A task leaving the filtered status/priority is reported too
+        boolean matches(TaskChangeEvent event) {
+            return (status == null || status == event.getStatus() || status == event.getPreviousStatus())
+                    && (priority == null || priority == event.getPriority() || priority == event.getPreviousPriority());
+        }
+    }
+}
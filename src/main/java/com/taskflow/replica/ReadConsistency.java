@@ -0,0 +1,46 @@
+package com.taskflow.replica;
+
+import java.util.function.Supplier;
+
+// Per-thread freshness requirement for replica reads, checked by ReplicaRouter
+// when a read-only transaction takes its connection. Unset means any replica
+// within max-staleness will do.
+public final class ReadConsistency {
+
+    private static final long PRIMARY_ONLY = Long.MAX_VALUE;
+
+    private static final ThreadLocal<Long> REQUIRED = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    // Only a replica that had applied every commit before this time (epoch millis) may serve the reads
+    static void requireAppliedAt(long epochMillis) {
+        REQUIRED.set(epochMillis);
+    }
+
+    static void clear() {
+        REQUIRED.remove();
+    }
+
+    // 0 when the thread has no requirement
+    static long requiredAppliedAt() {
+        Long required = REQUIRED.get();
+        return required == null ? 0 : required;
+    }
+
+    // For reads that must see every committed write, e.g. rebuilding in-memory state from the table
+    public static <T> T onPrimary(Supplier<T> reads) {
+        Long previous = REQUIRED.get();
+        REQUIRED.set(PRIMARY_ONLY);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                REQUIRED.remove();
+            } else {
+                REQUIRED.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskflow.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// Read-your-writes across replica lag. Every write response carries
+// X-Consistency-Token (a time after the write committed); a read that sends the
+// token back is only served by a replica that has applied everything up to it,
+// otherwise by the primary. Requests without the token read from any replica
+// within max-staleness. Tokens come from this server's clock, so instances
+// behind one load balancer need synchronized clocks.
+@Component
+@ConditionalOnProperty(name = "taskflow.replicas.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        if (isWrite(request)) {
+            TokenResponse tokenResponse = new TokenResponse(response);
+            chain.doFilter(request, tokenResponse);
+            tokenResponse.setToken();   // no body was written, e.g. 204
+            return;
+        }
+
+        Long token = parseToken(request.getHeader(HEADER));
+        if (token == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // A token from the future would pin every read to the primary
+        ReadConsistency.requireAppliedAt(Math.min(token, System.currentTimeMillis()));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadConsistency.clear();
+        }
+    }
+
+    // POST /api/tasks/lookup only reads
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)
+                || request.getRequestURI().endsWith("/lookup"));
+    }
+
+    private static Long parseToken(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    // Sets the token as the response starts, i.e. after the handler (and its transaction) returned
+    private static final class TokenResponse extends HttpServletResponseWrapper {
+
+        private boolean tokenSet;
+
+        private TokenResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void setToken() {
+            if (!tokenSet && !isCommitted()) {
+                tokenSet = true;
+                setHeader(HEADER, Long.toString(System.currentTimeMillis()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            setToken();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            setToken();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            setToken();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            setToken();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            setToken();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            setToken();
+            super.sendRedirect(location);
+        }
+    }
+}
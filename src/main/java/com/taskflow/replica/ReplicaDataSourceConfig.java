@@ -0,0 +1,87 @@
+package com.taskflow.replica;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Read/write splitting. The application DataSource is a LazyConnectionDataSourceProxy:
+// it takes the physical connection only at the first statement, by which time the
+// transaction manager has marked it read-only or not. @Transactional(readOnly = true)
+// work then goes to ReplicaRouter, everything else (and Flyway) to the primary pool.
+@Configuration
+@ConditionalOnProperty(name = "taskflow.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Value("${taskflow.replicas.urls:}")
+    private String[] urls;
+
+    @Value("${taskflow.replicas.username:${spring.datasource.username}}")
+    private String username;
+
+    @Value("${taskflow.replicas.password:${spring.datasource.password}}")
+    private String password;
+
+    @Value("${taskflow.replicas.pool-size:10}")
+    private int poolSize;
+
+    @Value("${taskflow.replicas.connection-timeout:2s}")
+    private Duration connectionTimeout;
+
+    @Value("${taskflow.replicas.max-staleness:5s}")
+    private Duration maxStaleness;
+
+    @Value("${taskflow.replicas.check-interval:1s}")
+    private Duration checkInterval;
+
+    // Same spring.datasource.* / spring.datasource.hikari.* settings as the auto-configured pool
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRouter replicaRouter(HikariDataSource primaryDataSource, MeterRegistry meterRegistry) {
+        if (urls.length == 0) {
+            throw new IllegalStateException("taskflow.replicas.enabled=true but taskflow.replicas.urls is empty");
+        }
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < urls.length; i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("taskflow-replica-" + (i + 1));
+            config.setJdbcUrl(urls[i].trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setDriverClassName(primaryDataSource.getDriverClassName());
+            config.setMaximumPoolSize(poolSize);
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);   // a replica that is down must not stop startup
+            config.setMetricRegistry(meterRegistry);
+            pools.add(new HikariDataSource(config));
+        }
+        return new ReplicaRouter(primaryDataSource, pools, maxStaleness, checkInterval, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRouter replicaRouter) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRouter);
+        return dataSource;
+    }
+}
@@ -0,0 +1,269 @@
+package com.taskflow.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Read-only side of the routing DataSource (see ReplicaDataSourceConfig): hands
+// out a connection from a replica that is healthy and fresh enough, otherwise
+// from the primary. A background check records how far each replica has
+// replayed the primary's WAL; a replica that fails a check or a connection
+// attempt is ejected until a check succeeds again.
+//
+// Freshness is kept as "applied up to": the latest check time T at which the
+// replica had replayed past the primary WAL position read at T, so it holds
+// every commit made before T. A replica serves reads only while
+// now - appliedUpTo <= max-staleness and appliedUpTo >= the caller's
+// read-your-writes token (ReadConsistency).
+public class ReplicaRouter extends AbstractDataSource implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private static final String PRIMARY_LSN_SQL =
+            "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint";
+
+    // NULL on a server that is not a standby (e.g. a standalone instance standing in for a replica)
+    private static final String REPLAY_LSN_SQL =
+            "SELECT pg_wal_lsn_diff(pg_last_wal_replay_lsn(), '0/0')::bigint";
+
+    private static final int MAX_SAMPLES = 256;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxStalenessMillis;
+    private final long checkIntervalMillis;
+    private final MeterRegistry meterRegistry;
+
+    private final Deque<long[]> primarySamples = new ArrayDeque<>();   // {time, lsn}, checker thread only
+
+    private volatile boolean running;
+    private ScheduledExecutorService checker;
+    private Counter primaryReads;
+
+    public ReplicaRouter(DataSource primary, List<HikariDataSource> replicaPools,
+                         Duration maxStaleness, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxStalenessMillis = maxStaleness.toMillis();
+        this.checkIntervalMillis = checkInterval.toMillis();
+        this.meterRegistry = meterRegistry;
+        for (HikariDataSource pool : replicaPools) {
+            replicas.add(new Replica(pool.getPoolName(), pool));
+        }
+    }
+
+    // ================= LIFECYCLE =================
+
+    @Override
+    public void start() {
+        primaryReads = Counter.builder("taskflow.replicas.reads")
+                .tag("target", "primary")
+                .description("Read-only transactions by the pool that served them")
+                .register(meterRegistry);
+        for (Replica replica : replicas) {
+            replica.reads = Counter.builder("taskflow.replicas.reads")
+                    .tag("target", replica.name)
+                    .description("Read-only transactions by the pool that served them")
+                    .register(meterRegistry);
+            Gauge.builder("taskflow.replicas.lag", replica,
+                            r -> r.appliedUpTo == 0 ? Double.NaN : System.currentTimeMillis() - r.appliedUpTo)
+                    .tag("replica", replica.name)
+                    .baseUnit("milliseconds")
+                    .description("Time since the last commit the replica is known to have applied")
+                    .register(meterRegistry);
+            Gauge.builder("taskflow.replicas.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+
+        // Checked once up front, so warmup and the first requests can already use the replicas
+        check();
+
+        checker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-check-"));
+        checker.scheduleWithFixedDelay(this::check, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+
+        logger.info("Read replicas: {} (max staleness {} ms)",
+                replicas.stream().map(r -> r.name + (r.healthy ? "" : " [down]")).toList(), maxStalenessMillis);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        checker.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @PreDestroy
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    // ================= ROUTING =================
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long now = System.currentTimeMillis();
+        long required = ReadConsistency.requiredAppliedAt();
+
+        List<Replica> eligible = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.usable(now, maxStalenessMillis, required)) {
+                eligible.add(replica);
+            }
+        }
+
+        while (!eligible.isEmpty()) {
+            Replica replica = pick(eligible);
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException ex) {
+                eject(replica, ex.getMessage());
+                eligible.remove(replica);
+            }
+        }
+
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    // Two random choices, fewer busy connections wins: spreads load without shared state
+    private Replica pick(List<Replica> eligible) {
+        if (eligible.size() == 1) {
+            return eligible.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Replica first = eligible.get(random.nextInt(eligible.size()));
+        Replica second = eligible.get(random.nextInt(eligible.size()));
+        return first.activeConnections() <= second.activeConnections() ? first : second;
+    }
+
+    private void eject(Replica replica, String reason) {
+        if (replica.healthy) {
+            logger.warn("Replica {} taken out of rotation: {}", replica.name, reason);
+        }
+        replica.healthy = false;
+    }
+
+    // For caches filled by replica reads: runs the action once no replica in rotation can be older than now
+    public void afterMaxStaleness(Runnable action) {
+        if (running) {
+            checker.schedule(action, maxStalenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ================= HEALTH / LAG CHECK =================
+
+    private void check() {
+        try {
+            long now = System.currentTimeMillis();
+            Long primaryLsn = queryLsn(primary, PRIMARY_LSN_SQL);
+            if (primaryLsn != null) {
+                primarySamples.addLast(new long[] {now, primaryLsn});
+            }
+            // Older samples cannot make a replica usable any more
+            while (!primarySamples.isEmpty() && (primarySamples.size() > MAX_SAMPLES
+                    || primarySamples.peekFirst()[0] < now - maxStalenessMillis)) {
+                primarySamples.removeFirst();
+            }
+
+            for (Replica replica : replicas) {
+                checkReplica(replica, now);
+            }
+        } catch (SQLException ex) {
+            // Replicas keep their last known position and age out through max-staleness
+            logger.warn("Could not read the primary WAL position: {}", ex.getMessage());
+        } catch (RuntimeException ex) {
+            logger.error("Replica check failed", ex);
+        }
+    }
+
+    private void checkReplica(Replica replica, long now) {
+        try {
+            Long replayLsn = queryLsn(replica.pool, REPLAY_LSN_SQL);
+            if (replayLsn == null) {
+                replica.appliedUpTo = now;   // not a standby: nothing to replay
+            } else {
+                for (long[] sample : primarySamples) {
+                    if (sample[1] <= replayLsn && sample[0] > replica.appliedUpTo) {
+                        replica.appliedUpTo = sample[0];
+                    }
+                }
+            }
+            if (!replica.healthy) {
+                logger.info("Replica {} back in rotation", replica.name);
+            }
+            replica.healthy = true;
+        } catch (SQLException ex) {
+            eject(replica, ex.getMessage());
+        }
+    }
+
+    private static Long queryLsn(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            long lsn = rs.getLong(1);
+            return rs.wasNull() ? null : lsn;
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource pool;
+        private volatile boolean healthy;       // false until the first successful check
+        private volatile long appliedUpTo;      // epoch millis, 0 = unknown
+        private Counter reads;
+
+        private Replica(String name, HikariDataSource pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+
+        boolean usable(long now, long maxStalenessMillis, long required) {
+            long applied = appliedUpTo;
+            return healthy && now - applied <= maxStalenessMillis && applied >= required;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            return mxBean == null ? 0 : mxBean.getActiveConnections();
+        }
+    }
+}
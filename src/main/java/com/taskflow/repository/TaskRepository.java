@@ -1,49 +1,73 @@
 package com.taskflow.repository;
 
+import com.taskflow.dto.TaskResponse;
 import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    // JPQL constructor expression: read paths build TaskResponse straight from the
+    // row, without a managed entity or a dirty-checking snapshot
+    String TASK_RESPONSE = "SELECT new com.taskflow.dto.TaskResponse(" +
+            "t.id, t.name, t.status, t.priority, t.createdAt, t.updatedAt, t.version) FROM Task t ";
  
     // Find by status
-    List<Task> findByStatus(String status);
+    List<Task> findByStatus(TaskStatus status);
     
     // Find by priority
-    List<Task> findByPriority(String priority);
+    List<Task> findByPriority(TaskPriority priority);
     
     // Find by status AND priority
-    List<Task> findByStatusAndPriority(String status, String priority);
+    List<Task> findByStatusAndPriority(TaskStatus status, TaskPriority priority);
     
-    // Find by date range
+    // Find by date range (full rows; counts per time bucket come from the rollups)
     List<Task> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
     
-    // Search by name (case-insensitive, partial match)
-    List<Task> findByNameContainingIgnoreCase(String keyword);
+    // Search by name (case-insensitive, partial match). Full scan: only used until TaskNameIndex is built
+    List<Task> findByNameContainingIgnoreCase(String keyword, Limit limit);
     
-    // Find by status, ordered by priority
-    List<Task> findByStatusOrderByPriorityDesc(String status);
+    // Find by status, ordered by priority (codes are numeric: HIGH > MEDIUM > LOW)
+    @Query("SELECT t FROM Task t WHERE t.status = :status ORDER BY t.priority DESC, t.createdAt")
+    List<Task> findByStatusOrderByPriorityDesc(@Param("status") TaskStatus status);
   
     // Find tasks by status with custom ordering
     @Query("SELECT t FROM Task t WHERE t.status = :status ORDER BY t.createdAt DESC")
-    List<Task> findRecentTasksByStatus(@Param("status") String status);
+    List<Task> findRecentTasksByStatus(@Param("status") TaskStatus status);
     
     // Find high priority tasks
-    @Query("SELECT t FROM Task t WHERE t.priority = 'HIGH' AND t.status = 'QUEUED'")
+    @Query("SELECT t FROM Task t WHERE t.priority = com.taskflow.entity.TaskPriority.HIGH " +
+           "AND t.status = com.taskflow.entity.TaskStatus.QUEUED")
     List<Task> findHighPriorityQueuedTasks();
     
     // Count tasks by status
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
-    long countTasksByStatus(@Param("status") String status);
+    long countTasksByStatus(@Param("status") TaskStatus status);
+
+    // Rows of (status, priority, count) for reconciling TaskCounters
+    @Query("SELECT t.status, t.priority, COUNT(t) FROM Task t GROUP BY t.status, t.priority")
+    List<Object[]> countGroupByStatusAndPriority();
     
-    // Find tasks created in last N days
-    @Query(value = "SELECT * FROM tasks WHERE created_at > NOW() - INTERVAL ':days days'", 
+    // Find tasks created in last N days (the interval is built from the bound parameter)
+    @Query(value = "SELECT * FROM tasks WHERE created_at > NOW() - make_interval(days => :days)",
            nativeQuery = true)
     List<Task> findTasksCreatedInLastDays(@Param("days") int days);
   
@@ -51,8 +75,222 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     boolean existsByName(String name);
     
     // Count by priority
-    long countByPriority(String priority);
+    long countByPriority(TaskPriority priority);
     
-    // Delete by status (bulk delete)
-    void deleteByStatus(String status);
-}
\ No newline at end of file
+    // Delete by status: one DELETE statement. A derived delete would load and remove
+    // every entity one by one. Bypasses caches and counters; retention uses purgeChunk.
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.status = :status")
+    int deleteByStatus(@Param("status") TaskStatus status);
+
+    // ================= READ PROJECTIONS =================
+
+    @Query(TASK_RESPONSE)
+    List<TaskResponse> findAllResponses();
+
+    @Query(value = TASK_RESPONSE, countQuery = "SELECT COUNT(t) FROM Task t")
+    Page<TaskResponse> findResponsePage(Pageable pageable);
+
+    @Query(TASK_RESPONSE + "WHERE t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    @Query(TASK_RESPONSE + "WHERE t.id IN :ids")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(TASK_RESPONSE + "WHERE t.status = :status")
+    List<TaskResponse> findResponsesByStatus(@Param("status") TaskStatus status);
+
+    @Query(TASK_RESPONSE + "WHERE t.priority = :priority")
+    List<TaskResponse> findResponsesByPriority(@Param("priority") TaskPriority priority);
+
+    // Stream all tasks with a JDBC fetch size (rows pulled in chunks by a server-side cursor).
+    // Must be consumed inside a transaction and closed by the caller.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(TASK_RESPONSE)
+    Stream<TaskResponse> streamAllResponses();
+
+    // (id, name) pairs for building TaskNameIndex, same streaming rules as streamAllResponses()
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id, t.name FROM Task t")
+    Stream<Object[]> streamIdAndName();
+
+    // (id, name) of tasks changed since the given time, for the name index catch-up
+    @Query("SELECT t.id, t.name FROM Task t WHERE t.updatedAt >= :since")
+    List<Object[]> findIdAndNameUpdatedSince(@Param("since") LocalDateTime since);
+
+    // ================= WORKER CLAIMING =================
+
+    // Native SQL sees the smallint codes: status 0 = QUEUED, 1 = IN_PROGRESS (see TaskStatus)
+
+    // Lock the oldest QUEUED tasks of one priority lane; rows locked by other workers are skipped
+    @Query(value = "SELECT * FROM tasks WHERE status = 0 AND priority = :priority " +
+                   "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Task> lockNextQueuedTasks(@Param("priority") short priorityCode, @Param("limit") int limit);
+
+    // Lock IN_PROGRESS tasks whose lease ran out (worker crashed or lost its heartbeat)
+    @Query(value = "SELECT * FROM tasks WHERE status = 1 AND lease_expires_at < :now " +
+                   "ORDER BY lease_expires_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Task> lockExpiredLeases(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Heartbeat: extend every lease held by a worker node
+    @Modifying
+    @Query("UPDATE Task t SET t.leaseExpiresAt = :expiresAt " +
+           "WHERE t.leaseOwner = :owner AND t.status = com.taskflow.entity.TaskStatus.IN_PROGRESS")
+    int renewLeases(@Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Record the outcome, only if this node still owns the lease
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.lastError = :error, t.updatedAt = :now, " +
+           "t.leaseOwner = NULL, t.leaseExpiresAt = NULL, t.version = t.version + 1 " +
+           "WHERE t.id = :id AND t.leaseOwner = :owner " +
+           "AND t.status = com.taskflow.entity.TaskStatus.IN_PROGRESS")
+    int finishLeasedTask(@Param("id") Long id,
+                         @Param("owner") String owner,
+                         @Param("status") TaskStatus status,
+                         @Param("error") String error,
+                         @Param("now") LocalDateTime now);
+
+    // Hand an unstarted task back to the queue, undoing the attempt its claim counted
+    @Modifying
+    @Query("UPDATE Task t SET t.status = com.taskflow.entity.TaskStatus.QUEUED, t.lastError = NULL, " +
+           "t.updatedAt = :now, t.leaseOwner = NULL, t.leaseExpiresAt = NULL, " +
+           "t.attempts = t.attempts - 1, t.version = t.version + 1 " +
+           "WHERE t.id = :id AND t.leaseOwner = :owner " +
+           "AND t.status = com.taskflow.entity.TaskStatus.IN_PROGRESS")
+    int releaseLeasedTask(@Param("id") Long id,
+                          @Param("owner") String owner,
+                          @Param("now") LocalDateTime now);
+
+    // ================= KEYSET PAGINATION =================
+    // Seek on (sort column, id) instead of OFFSET, no COUNT(*)
+
+    @Query(TASK_RESPONSE + "ORDER BY t.id ASC")
+    List<TaskResponse> findFirstPageById(Limit limit);
+
+    @Query(TASK_RESPONSE + "WHERE t.id > :id ORDER BY t.id ASC")
+    List<TaskResponse> findPageAfterId(@Param("id") Long id, Limit limit);
+
+    @Query(TASK_RESPONSE + "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskResponse> findFirstPageByCreatedAt(Limit limit);
+
+    @Query(TASK_RESPONSE + "WHERE (t.createdAt, t.id) > (:createdAt, :id) " +
+           "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskResponse> findPageAfterCreatedAt(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    // HIGH > MEDIUM > LOW (codes 3, 2, 1), newest first within a priority: every column
+    // descending, so the (priority, created_at, id) index is read backwards
+    @Query(TASK_RESPONSE + "ORDER BY t.priority DESC, t.createdAt DESC, t.id DESC")
+    List<TaskResponse> findFirstPageByPriority(Limit limit);
+
+    @Query(TASK_RESPONSE + "WHERE (t.priority, t.createdAt, t.id) < (:priority, :createdAt, :id) " +
+           "ORDER BY t.priority DESC, t.createdAt DESC, t.id DESC")
+    List<TaskResponse> findPageAfterPriorityAndCreatedAt(@Param("priority") TaskPriority priority,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Limit limit);
+
+    // ================= STATUS COMPARE-AND-SET =================
+    // One statement per transition: the WHERE re-checks the expected status, RETURNING
+    // hands back the row, so there is no prior SELECT and no full-row UPDATE. Leaving
+    // IN_PROGRESS also drops the worker lease. Empty/missing rows = not applied.
+
+    @Query(value = "UPDATE tasks SET status = :toCode, updated_at = :now, version = version + 1, " +
+                   "lease_owner = CASE WHEN :toCode = 1 THEN lease_owner END, " +
+                   "lease_expires_at = CASE WHEN :toCode = 1 THEN lease_expires_at END " +
+                   "WHERE id = :id AND status = :fromCode RETURNING *",
+           nativeQuery = true)
+    Optional<Task> compareAndSetStatus(@Param("id") Long id,
+                                       @Param("fromCode") short fromCode,
+                                       @Param("toCode") short toCode,
+                                       @Param("now") LocalDateTime now);
+
+    // Bulk variant: the (id, from, to) triples are passed as parallel arrays and joined via unnest
+    @Query(value = "UPDATE tasks t SET status = v.to_code, updated_at = :now, version = t.version + 1, " +
+                   "lease_owner = CASE WHEN v.to_code = 1 THEN t.lease_owner END, " +
+                   "lease_expires_at = CASE WHEN v.to_code = 1 THEN t.lease_expires_at END " +
+                   "FROM unnest(CAST(:ids AS bigint[]), CAST(:fromCodes AS smallint[]), " +
+                   "CAST(:toCodes AS smallint[])) AS v(id, from_code, to_code) " +
+                   "WHERE t.id = v.id AND t.status = v.from_code RETURNING t.*",
+           nativeQuery = true)
+    List<Task> compareAndSetStatuses(@Param("ids") Long[] ids,
+                                     @Param("fromCodes") Short[] fromCodes,
+                                     @Param("toCodes") Short[] toCodes,
+                                     @Param("now") LocalDateTime now);
+
+    // ================= RETENTION =================
+    // One keyset chunk of finished tasks older than the cutoff, deleted in one statement.
+    // Rows locked by a concurrent writer are skipped, never waited on. Returns
+    // (id, priority) of every deleted row for cache/index/counter upkeep.
+
+    String PURGE_CHUNK_IDS = "SELECT id FROM tasks WHERE status = :status AND updated_at < :cutoff " +
+            "AND id > :afterId ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    @Query(value = "DELETE FROM tasks WHERE id IN (" + PURGE_CHUNK_IDS + ") RETURNING id, priority",
+           nativeQuery = true)
+    List<Object[]> purgeChunk(@Param("status") short statusCode,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              @Param("afterId") long afterId,
+                              @Param("limit") int limit);
+
+    // Same chunk, copied to tasks_archive in the same statement (and transaction)
+    @Query(value = "WITH moved AS (DELETE FROM tasks WHERE id IN (" + PURGE_CHUNK_IDS + ") RETURNING *), " +
+                   "archived AS (INSERT INTO tasks_archive (id, name, status, priority, created_at, updated_at, " +
+                   "lease_owner, lease_expires_at, attempts, last_error, version) " +
+                   "SELECT id, name, status, priority, created_at, updated_at, " +
+                   "lease_owner, lease_expires_at, attempts, last_error, version FROM moved) " +
+                   "SELECT id, priority FROM moved",
+           nativeQuery = true)
+    List<Object[]> archiveAndPurgeChunk(@Param("status") short statusCode,
+                                        @Param("cutoff") LocalDateTime cutoff,
+                                        @Param("afterId") long afterId,
+                                        @Param("limit") int limit);
+
+    // ================= CHANGE COUNTER =================
+    // Sum of the task_changes slots (V9), bumped by trigger in every transaction that changes a task
+
+    @Query(value = "SELECT CAST(COALESCE(SUM(changes), 0) AS bigint) FROM task_changes", nativeQuery = true)
+    long countTaskChanges();
+
+    // ================= ROLLUPS =================
+    // task_rollups (V8) is maintained by TaskRollups; codes as in the migration.
+
+    // Adds one flush worth of counts; the arrays are parallel and every key occurs once.
+    // Rows are inserted in key order so concurrent flushes from several instances lock
+    // them in the same order.
+    @Modifying
+    @Query(value = "INSERT INTO task_rollups (resolution, bucket_start, event, status, priority, count) " +
+                   "SELECT * FROM unnest(CAST(:resolutions AS smallint[]), CAST(:bucketStarts AS timestamp[]), " +
+                   "CAST(:events AS smallint[]), CAST(:statuses AS smallint[]), " +
+                   "CAST(:priorities AS smallint[]), CAST(:counts AS bigint[])) " +
+                   "AS v(resolution, bucket_start, event, status, priority, count) " +
+                   "ORDER BY resolution, bucket_start, event, status, priority " +
+                   "ON CONFLICT (resolution, bucket_start, event, status, priority) " +
+                   "DO UPDATE SET count = task_rollups.count + EXCLUDED.count",
+           nativeQuery = true)
+    int addToRollups(@Param("resolutions") Short[] resolutions,
+                     @Param("bucketStarts") LocalDateTime[] bucketStarts,
+                     @Param("events") Short[] events,
+                     @Param("statuses") Short[] statuses,
+                     @Param("priorities") Short[] priorities,
+                     @Param("counts") Long[] counts);
+
+    // Rows of (bucket_start, event, status, priority, count) for one resolution, from inclusive, to exclusive
+    @Query(value = "SELECT bucket_start, event, status, priority, count FROM task_rollups " +
+                   "WHERE resolution = :resolution AND bucket_start >= :from AND bucket_start < :to",
+           nativeQuery = true)
+    List<Object[]> findRollups(@Param("resolution") short resolution,
+                               @Param("from") LocalDateTime from,
+                               @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_rollups WHERE resolution = :resolution AND bucket_start < :cutoff",
+           nativeQuery = true)
+    int purgeRollups(@Param("resolution") short resolution, @Param("cutoff") LocalDateTime cutoff);
+}
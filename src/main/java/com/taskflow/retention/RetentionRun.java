@@ -0,0 +1,88 @@
+package com.taskflow.retention;
+
+import com.taskflow.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Progress of one purge run, written by the retention thread and read by the
+// actuator endpoint (synchronized, so readers see a consistent snapshot)
+public class RetentionRun {
+
+    public enum State {
+        RUNNING, COMPLETED, STOPPED, FAILED
+    }
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final Map<TaskStatus, Long> deleted = new EnumMap<>(TaskStatus.class);
+    private LocalDateTime finishedAt;
+    private State state = State.RUNNING;
+    private TaskStatus currentStatus;
+    private long archived;
+    private long chunks;
+    private int chunkSize;
+    private long throttledMillis;
+    private String error;
+
+    synchronized void chunkDone(TaskStatus status, int rows, boolean archive, int nextChunkSize) {
+        currentStatus = status;
+        deleted.merge(status, (long) rows, Long::sum);
+        if (archive) {
+            archived += rows;
+        }
+        chunks++;
+        chunkSize = nextChunkSize;
+    }
+
+    synchronized void throttled(long millis) {
+        throttledMillis += millis;
+    }
+
+    synchronized void finish(State finalState, String failure) {
+        state = finalState;
+        error = failure;
+        currentStatus = null;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public synchronized LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized TaskStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public synchronized Map<TaskStatus, Long> getDeleted() {
+        return new EnumMap<>(deleted);
+    }
+
+    public synchronized long getArchived() {
+        return archived;
+    }
+
+    public synchronized long getChunks() {
+        return chunks;
+    }
+
+    public synchronized int getChunkSize() {
+        return chunkSize;
+    }
+
+    public synchronized long getThrottledMillis() {
+        return throttledMillis;
+    }
+
+    public synchronized String getError() {
+        return error;
+    }
+}
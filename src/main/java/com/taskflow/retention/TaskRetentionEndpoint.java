@@ -0,0 +1,38 @@
+package com.taskflow.retention;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// GET /actuator/retention: policies and progress; POST starts a run now
+@Component
+@Endpoint(id = "retention")
+public class TaskRetentionEndpoint {
+
+    @Autowired
+    private TaskRetentionService taskRetentionService;
+
+    @ReadOperation
+    public Map<String, Object> retention() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", taskRetentionService.isEnabled());
+        status.put("running", taskRetentionService.isRunning());
+        status.put("policies", taskRetentionService.policies());
+        status.put("current", taskRetentionService.getCurrentRun());
+        status.put("last", taskRetentionService.getLastRun());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> purge() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("started", taskRetentionService.start());
+        result.put("running", taskRetentionService.isRunning());
+        return result;
+    }
+}
@@ -0,0 +1,279 @@
+package com.taskflow.retention;
+
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.feed.TaskChangeFeed;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.search.TaskNameIndex;
+import com.taskflow.service.TaskCacheEvictor;
+import com.taskflow.service.TaskCounters;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Age-based purge of finished tasks (COMPLETED / FAILED, one max age each).
+// Works in keyset chunks of ids, one short transaction per chunk, so locks and
+// memory stay bounded no matter how many rows qualify. The chunk size adapts to
+// a target chunk time, and the run sleeps between chunks so it uses at most
+// max-duty-cycle of wall time (longer while the connection pool has waiters).
+@Component
+public class TaskRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskRetentionService.class);
+
+    private static final int MIN_CHUNK_SIZE = 100;
+    private static final int MAX_CHUNK_SIZE = 10_000;
+    private static final long POOL_PRESSURE_PAUSE_MILLIS = 1000;
+
+    @Value("${taskflow.retention.enabled:false}")
+    private boolean enabled;
+
+    // 0 keeps that status forever
+    @Value("${taskflow.retention.completed-max-age:30d}")
+    private Duration completedMaxAge;
+
+    @Value("${taskflow.retention.failed-max-age:90d}")
+    private Duration failedMaxAge;
+
+    @Value("${taskflow.retention.archive:false}")
+    private boolean archive;
+
+    @Value("${taskflow.retention.chunk-size:1000}")
+    private int initialChunkSize;
+
+    @Value("${taskflow.retention.target-chunk-time:250ms}")
+    private Duration targetChunkTime;
+
+    @Value("${taskflow.retention.max-duty-cycle:0.25}")
+    private double maxDutyCycle;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskCacheEvictor taskCacheEvictor;
+
+    @Autowired
+    private TaskNameIndex taskNameIndex;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("task-retention-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopping;
+    private volatile RetentionRun currentRun;
+    private volatile RetentionRun lastRun;
+
+    // ================= TRIGGERS =================
+
+    // Hands off to the retention thread so the shared scheduler is never blocked for the whole run
+    @Scheduled(cron = "${taskflow.retention.cron:0 0 3 * * *}")
+    public void scheduledPurge() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    // False when a run is already in progress (or retention is disabled)
+    public boolean start() {
+        if (!enabled || stopping || !running.compareAndSet(false, true)) {
+            return false;
+        }
+        RetentionRun run = new RetentionRun();
+        currentRun = run;
+        executor.execute(() -> run(run));
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdownNow();
+    }
+
+    // ================= PURGE =================
+
+    private void run(RetentionRun run) {
+        logger.info("Retention run started (completed > {}, failed > {}, archive={})",
+                completedMaxAge, failedMaxAge, archive);
+        try {
+            purge(TaskStatus.COMPLETED, completedMaxAge, run);
+            purge(TaskStatus.FAILED, failedMaxAge, run);
+            run.finish(stopping ? RetentionRun.State.STOPPED : RetentionRun.State.COMPLETED, null);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            run.finish(RetentionRun.State.STOPPED, null);
+        } catch (RuntimeException ex) {
+            logger.error("Retention run failed", ex);
+            run.finish(RetentionRun.State.FAILED, ex.getMessage());
+        } finally {
+            lastRun = run;
+            currentRun = null;
+            running.set(false);
+        }
+        logger.info("Retention run {}: deleted {}, archived {}, {} chunks, throttled {} ms",
+                run.getState(), run.getDeleted(), run.getArchived(), run.getChunks(), run.getThrottledMillis());
+    }
+
+    private void purge(TaskStatus status, Duration maxAge, RetentionRun run) throws InterruptedException {
+        if (maxAge.isZero() || maxAge.isNegative()) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long afterId = 0;
+        int chunkSize = initialChunkSize;
+
+        while (!stopping) {
+            long from = afterId;
+            int limit = chunkSize;
+            long start = System.nanoTime();
+
+            List<Object[]> rows = transaction.execute(tx -> {
+                List<Object[]> deleted = archive
+                        ? taskRepository.archiveAndPurgeChunk(status.getCode(), cutoff, from, limit)
+                        : taskRepository.purgeChunk(status.getCode(), cutoff, from, limit);
+                purged(status, deleted);
+                return deleted;
+            });
+
+            long elapsedNanos = System.nanoTime() - start;
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+
+            for (Object[] row : rows) {
+                afterId = Math.max(afterId, ((Number) row[0]).longValue());
+            }
+            chunkSize = nextChunkSize(chunkSize, elapsedNanos);
+            run.chunkDone(status, rows.size(), archive, chunkSize);
+            meterRegistry.counter("taskflow.retention.deleted", "status", status.name()).increment(rows.size());
+
+            throttle(elapsedNanos, run);
+        }
+    }
+
+    // Same upkeep as a delete through the service, applied once the chunk commits
+    private void purged(TaskStatus status, List<Object[]> rows) {
+        Set<TaskPriority> priorities = EnumSet.noneOf(TaskPriority.class);
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            TaskPriority priority = TaskPriority.fromCode(((Number) row[1]).shortValue());
+            priorities.add(priority);
+
+            Task task = new Task(null, priority, status);
+            task.setId(id);
+
+            taskCacheEvictor.evictTask(id);
+            taskNameIndex.remove(id);
+            taskCounters.deleted(status, priority);
+            taskChangeFeed.deleted(task);
+        }
+        for (TaskPriority priority : priorities) {
+            taskCacheEvictor.evictListKeys(status, priority);
+        }
+    }
+
+    // Halve when a chunk overshoots the target time, grow by half when it is well under
+    private int nextChunkSize(int chunkSize, long elapsedNanos) {
+        long target = targetChunkTime.toNanos();
+        if (elapsedNanos > target) {
+            return Math.max(MIN_CHUNK_SIZE, chunkSize / 2);
+        }
+        if (elapsedNanos < target / 2) {
+            return Math.min(MAX_CHUNK_SIZE, chunkSize + chunkSize / 2);
+        }
+        return chunkSize;
+    }
+
+    // Sleep so work / (work + sleep) <= max-duty-cycle; back off further while requests wait for connections
+    private void throttle(long elapsedNanos, RetentionRun run) throws InterruptedException {
+        long pauseMillis = TimeUnit.NANOSECONDS.toMillis((long) (elapsedNanos * (1 - maxDutyCycle) / maxDutyCycle));
+        if (poolUnderPressure()) {
+            pauseMillis = Math.max(pauseMillis * 4, POOL_PRESSURE_PAUSE_MILLIS);
+        }
+        if (pauseMillis > 0) {
+            run.throttled(pauseMillis);
+            TimeUnit.MILLISECONDS.sleep(pauseMillis);
+        }
+    }
+
+    private boolean poolUnderPressure() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                return pool != null && pool.getThreadsAwaitingConnection() > 0;
+            }
+        } catch (SQLException ex) {
+            logger.debug("Could not read connection pool state", ex);
+        }
+        return false;
+    }
+
+    // ================= STATUS (actuator) =================
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public Map<String, Object> policies() {
+        Map<String, Object> policies = new LinkedHashMap<>();
+        policies.put(TaskStatus.COMPLETED.name(), completedMaxAge.toString());
+        policies.put(TaskStatus.FAILED.name(), failedMaxAge.toString());
+        policies.put("archive", archive);
+        policies.put("maxDutyCycle", maxDutyCycle);
+        return policies;
+    }
+
+    public RetentionRun getCurrentRun() {
+        return currentRun;
+    }
+
+    public RetentionRun getLastRun() {
+        return lastRun;
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskflow.rollup;
+
+import com.taskflow.exception.InvalidRequestException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+// Bucket sizes of task_rollups; codes are stored, never reuse them
+public enum RollupResolution {
+
+    MINUTE(0, ChronoUnit.MINUTES, 1),
+    HOUR(1, ChronoUnit.HOURS, 60),
+    DAY(2, ChronoUnit.DAYS, 1440);
+
+    private final short code;
+    private final ChronoUnit unit;
+    private final long minutes;
+
+    RollupResolution(int code, ChronoUnit unit, long minutes) {
+        this.code = (short) code;
+        this.unit = unit;
+        this.minutes = minutes;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    // Same truncation on epoch minutes (see TaskRollups)
+    long truncate(long epochMinute) {
+        return epochMinute - Math.floorMod(epochMinute, minutes);
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    // Buckets touched by [start, end) when start is a bucket boundary
+    public long bucketsBetween(LocalDateTime start, LocalDateTime end) {
+        long buckets = unit.between(start, end);
+        return start.plus(buckets, unit).isBefore(end) ? buckets + 1 : buckets;
+    }
+
+    public String parameter() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    // ?bucket=minute|hour|day
+    public static RollupResolution fromParameter(String value) {
+        for (RollupResolution resolution : values()) {
+            if (resolution.parameter().equalsIgnoreCase(value)) {
+                return resolution;
+            }
+        }
+        throw new InvalidRequestException("Unknown bucket '" + value + "', expected minute, hour or day");
+    }
+}
@@ -0,0 +1,261 @@
+package com.taskflow.rollup;
+
+import com.taskflow.dto.TaskHistogramResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.exception.InvalidRequestException;
+import com.taskflow.exception.ServiceUnavailableException;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.service.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Created / finished task counts per minute, hour and day in task_rollups (V8),
+// read by GET /api/tasks/histogram instead of counting raw rows. Writers only bump
+// an in-memory counter per (minute, event, status, priority) after their transaction
+// commits; a scheduled flush adds what accumulated to all three resolutions in one
+// upsert, so the current minute's rows are written once per flush instead of once
+// per task. The histogram trails writes by up to flush-interval, and a crash loses
+// at most that much. Every instance flushes its own counts; the upserts add up.
+@Component
+public class TaskRollups {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskRollups.class);
+
+    // event codes in task_rollups
+    static final short CREATED = 0;
+    static final short FINISHED = 1;
+
+    private static final RollupResolution[] RESOLUTIONS = RollupResolution.values();
+
+    // Minutes this far back get no more increments (events are stamped when recorded)
+    private static final long SETTLED_MINUTES = 5;
+
+    @Value("${taskflow.rollups.enabled:true}")
+    private boolean enabled;
+
+    @Value("${taskflow.rollups.minute-retention:7d}")
+    private Duration minuteRetention;
+
+    @Value("${taskflow.rollups.hour-retention:90d}")
+    private Duration hourRetention;
+
+    @Value("${taskflow.rollups.max-buckets:1440}")
+    private int maxBuckets;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Key: epoch minute (server local time) << 5 | event << 4 | status code << 2 | priority code
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private TransactionTemplate readOnly;
+
+    @PostConstruct
+    public void init() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        if (!enabled) {
+            logger.info("Task rollups disabled");
+        }
+    }
+
+    // ================= WRITES =================
+
+    public void created(TaskStatus status, TaskPriority priority) {
+        if (enabled && status != null && priority != null) {
+            TransactionCallbacks.afterCommit(() -> record(CREATED, status, priority));
+        }
+    }
+
+    // Counted when a task enters COMPLETED or FAILED
+    public void changed(TaskStatus oldStatus, TaskStatus newStatus, TaskPriority priority) {
+        if (!enabled || oldStatus == newStatus || priority == null
+                || (newStatus != TaskStatus.COMPLETED && newStatus != TaskStatus.FAILED)) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> record(FINISHED, newStatus, priority));
+    }
+
+    private void record(short event, TaskStatus status, TaskPriority priority) {
+        long key = currentMinute() << 5 | event << 4 | status.getCode() << 2 | priority.getCode();
+        pending.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    // ================= FLUSH =================
+
+    @Scheduled(initialDelayString = "${taskflow.rollups.flush-interval-ms:5000}",
+               fixedDelayString = "${taskflow.rollups.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+
+        // sumThenReset takes each cell atomically: an increment lands in this flush or the next
+        Map<Long, Long> drained = new HashMap<>();
+        long settledBefore = currentMinute() - SETTLED_MINUTES;
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count != 0) {
+                drained.put(entry.getKey(), count);
+            }
+            if (entry.getKey() >> 5 < settledBefore) {
+                pending.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // Per resolution, keyed like pending with the minute truncated to the bucket;
+        // sorted, so rows come out in primary key order
+        List<TreeMap<Long, Long>> rows = new ArrayList<>();
+        int size = 0;
+        for (RollupResolution resolution : RESOLUTIONS) {
+            TreeMap<Long, Long> bucketed = new TreeMap<>();
+            drained.forEach((key, count) ->
+                    bucketed.merge(resolution.truncate(key >> 5) << 5 | key & 0x1F, count, Long::sum));
+            rows.add(bucketed);
+            size += bucketed.size();
+        }
+
+        Short[] resolutions = new Short[size];
+        LocalDateTime[] bucketStarts = new LocalDateTime[size];
+        Short[] events = new Short[size];
+        Short[] statuses = new Short[size];
+        Short[] priorities = new Short[size];
+        Long[] counts = new Long[size];
+        int i = 0;
+        for (int r = 0; r < RESOLUTIONS.length; r++) {
+            for (Map.Entry<Long, Long> row : rows.get(r).entrySet()) {
+                long key = row.getKey();
+                resolutions[i] = RESOLUTIONS[r].getCode();
+                bucketStarts[i] = LocalDateTime.ofEpochSecond((key >> 5) * 60, 0, ZoneOffset.UTC);
+                events[i] = (short) (key >> 4 & 0x1);
+                statuses[i] = (short) (key >> 2 & 0x3);
+                priorities[i] = (short) (key & 0x3);
+                counts[i] = row.getValue();
+                i++;
+            }
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    taskRepository.addToRollups(resolutions, bucketStarts, events, statuses, priorities, counts));
+        } catch (Exception ex) {
+            // Put back for the next flush
+            drained.forEach((key, count) -> pending.computeIfAbsent(key, k -> new LongAdder()).add(count));
+            logger.warn("Could not flush task rollups, retrying with the next flush: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // Minute and hour rows are only kept for their retention; day rows are kept
+    @Scheduled(cron = "${taskflow.rollups.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                int minutes = taskRepository.purgeRollups(
+                        RollupResolution.MINUTE.getCode(), now.minus(minuteRetention));
+                int hours = taskRepository.purgeRollups(
+                        RollupResolution.HOUR.getCode(), now.minus(hourRetention));
+                logger.info("Purged {} minute and {} hour task rollup rows", minutes, hours);
+            });
+        } catch (Exception ex) {
+            logger.warn("Could not purge task rollups: {}", ex.getMessage());
+        }
+    }
+
+    // ================= READS =================
+
+    // Created / completed / failed per bucket over [from, to), from rounded down to its bucket
+    public TaskHistogramResponse histogram(RollupResolution resolution, LocalDateTime from,
+                                           LocalDateTime to, TaskPriority priority) {
+        if (!enabled) {
+            throw new ServiceUnavailableException("Task rollups are disabled");
+        }
+
+        LocalDateTime start = resolution.truncate(from);
+        if (!to.isAfter(start)) {
+            throw new InvalidRequestException("'to' must be after 'from'");
+        }
+        long bucketCount = resolution.bucketsBetween(start, to);
+        if (bucketCount > maxBuckets) {
+            throw new InvalidRequestException("Range covers " + bucketCount + " " + resolution.parameter()
+                    + " buckets, at most " + maxBuckets + " allowed; use a larger bucket");
+        }
+
+        Map<LocalDateTime, TaskHistogramResponse.Bucket> buckets = new LinkedHashMap<>();
+        for (LocalDateTime bucketStart = start; bucketStart.isBefore(to); bucketStart = resolution.next(bucketStart)) {
+            buckets.put(bucketStart, new TaskHistogramResponse.Bucket(bucketStart));
+        }
+
+        List<Object[]> rows = readOnly.execute(status ->
+                taskRepository.findRollups(resolution.getCode(), start, to));
+        for (Object[] row : rows) {
+            if (priority != null && ((Number) row[3]).shortValue() != priority.getCode()) {
+                continue;
+            }
+            TaskHistogramResponse.Bucket bucket = buckets.get(toLocalDateTime(row[0]));
+            if (bucket == null) {
+                continue;
+            }
+
+            long count = ((Number) row[4]).longValue();
+            if (((Number) row[1]).shortValue() == CREATED) {
+                bucket.setCreated(bucket.getCreated() + count);
+            } else if (((Number) row[2]).shortValue() == TaskStatus.COMPLETED.getCode()) {
+                bucket.setCompleted(bucket.getCompleted() + count);
+            } else {
+                bucket.setFailed(bucket.getFailed() + count);
+            }
+        }
+
+        return new TaskHistogramResponse(resolution.parameter(), start, to, priority,
+                new ArrayList<>(buckets.values()));
+    }
+
+    // ================= HELPERS =================
+
+    // Epoch minute of the server's local time, matching the LocalDateTime columns
+    private static long currentMinute() {
+        return LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
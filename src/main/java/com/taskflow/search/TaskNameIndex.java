@@ -0,0 +1,462 @@
+package com.taskflow.search;
+
+import com.taskflow.replica.ReadConsistency;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.service.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// In-memory trigram inverted index over Task.name for /api/tasks/search.
+// Built from the database once the application is ready, then kept current by
+// put/remove calls from the service, applied after the surrounding transaction
+// commits (like the transaction-aware cache). Searches never touch the database.
+// Writes made by other instances are picked up by a periodic catch-up over rows
+// changed since the previous pass (by updated_at, with an overlap for commits that
+// landed late or clocks that differ), so new and renamed tasks lag by at most the
+// catch-up interval. Deletes cannot be seen that way; search results are loaded by
+// id, so a deleted task is never returned, and the periodic full rebuild drops it.
+@Component
+public class TaskNameIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskNameIndex.class);
+
+    @Value("${taskflow.search.index.enabled:true}")
+    private boolean enabled;
+
+    // Upper bound on verified matches per query, newest first, so very common
+    // keywords stay fast; ranking happens among these
+    @Value("${taskflow.search.max-candidates:10000}")
+    private int maxCandidates;
+
+    // Every catch-up re-reads rows changed this long before the previous pass started
+    @Value("${taskflow.search.index.catch-up-overlap:30s}")
+    private Duration catchUpOverlap;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private NameIndex index = new NameIndex();          // guarded by lock
+    private List<Consumer<NameIndex>> pendingDuringRebuild;   // guarded by lock, non-null while rebuilding
+    private volatile boolean ready;
+    private volatile LocalDateTime catchUpFrom;         // next catch-up reads rows updated since
+
+    // ================= REBUILD =================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            logger.info("Task name index disabled, search goes to the database");
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception ex) {
+            logger.error("Building the task name index failed, search falls back to the database", ex);
+        }
+    }
+
+    // Builds a fresh index off-lock; writes committed meanwhile are replayed onto it before the swap
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        NameIndex fresh = new NameIndex();
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            // On the primary: writes replayed from pendingDuringRebuild assume the scan saw every earlier commit
+            ReadConsistency.onPrimary(() -> transaction.execute(status -> {
+                try (Stream<Object[]> rows = taskRepository.streamIdAndName()) {
+                    rows.forEach(row -> fresh.put((Long) row[0], (String) row[1]));
+                }
+                return null;
+            }));
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(op -> op.accept(fresh));
+            pendingDuringRebuild = null;
+            index = fresh;
+            ready = true;
+            catchUpFrom = startedAt.minus(catchUpOverlap);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("Task name index built: {} tasks, {} trigrams in {} ms",
+                fresh.size(), fresh.postings.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // Full rebuild now and then: drops tasks deleted by other instances
+    @Scheduled(initialDelayString = "${taskflow.search.index.rebuild-interval-ms:900000}",
+               fixedDelayString = "${taskflow.search.index.rebuild-interval-ms:900000}")
+    public void periodicRebuild() {
+        if (!enabled || !ready) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception ex) {
+            logger.warn("Rebuilding the task name index failed, keeping the current one: {}", ex.getMessage());
+        }
+    }
+
+    // ================= CATCH-UP =================
+
+    // Re-indexes the names of tasks created or changed since the previous pass, on any instance
+    @Scheduled(fixedDelayString = "${taskflow.search.index.catch-up-interval-ms:10000}")
+    public synchronized void catchUp() {
+        LocalDateTime since = catchUpFrom;
+        if (!enabled || !ready || since == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Object[]> rows;
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            // On the primary: a lagging replica would miss rows and the window moves on without them
+            rows = ReadConsistency.onPrimary(() -> transaction.execute(status ->
+                    taskRepository.findIdAndNameUpdatedSince(since)));
+        } catch (Exception ex) {
+            logger.warn("Task name index catch-up failed, retrying from the same point: {}", ex.getMessage());
+            return;
+        }
+
+        int changed = 0;
+        lock.writeLock().lock();
+        try {
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                String name = (String) row[1];
+                if (index.putIfChanged(id, name)) {
+                    changed++;
+                    if (pendingDuringRebuild != null) {
+                        pendingDuringRebuild.add(idx -> idx.put(id, name));
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        catchUpFrom = startedAt.minus(catchUpOverlap);
+
+        if (changed > 0) {
+            logger.debug("Task name index catch-up: {} of {} changed tasks re-indexed", changed, rows.size());
+        }
+    }
+
+    // ================= UPDATES =================
+
+    public void put(Long id, String name) {
+        if (id != null && name != null) {
+            afterCommit(idx -> idx.put(id, name));
+        }
+    }
+
+    public void remove(Long id) {
+        if (id != null) {
+            afterCommit(idx -> idx.remove(id));
+        }
+    }
+
+    private void afterCommit(Consumer<NameIndex> op) {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> apply(op));
+    }
+
+    private void apply(Consumer<NameIndex> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(index);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(op);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= SEARCH =================
+
+    // False until the first build finished (or when disabled): callers use the database instead
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // Ids of tasks whose name contains the keyword (case-insensitive), best match first
+    public List<Long> search(String keyword, int limit) {
+        String query = normalize(keyword);
+
+        lock.readLock().lock();
+        try {
+            return index.search(query, limit, maxCandidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    // Three UTF-16 chars packed into one long, distinct and sorted
+    private static long[] trigrams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] grams = new long[text.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    // ================= INDEX STRUCTURE =================
+    // Not thread-safe; guarded by the outer read/write lock.
+    // Every put gets a new, increasing doc number, so posting lists stay sorted by
+    // age without re-sorting. Replaced or removed docs are tombstoned and dropped
+    // by compaction once they make up half of the index.
+
+    private static final class NameIndex {
+
+        private static final int COMPACT_MIN_DOCS = 1024;
+
+        private Map<Long, IntList> postings = new HashMap<>();
+        private Map<Long, Integer> docByTaskId = new HashMap<>();
+        private long[] taskIds = new long[COMPACT_MIN_DOCS];
+        private String[] names = new String[COMPACT_MIN_DOCS];   // normalized, null once tombstoned
+        private BitSet tombstones = new BitSet();
+        private int docCount;
+        private int tombstoneCount;
+
+        int size() {
+            return docByTaskId.size();
+        }
+
+        // Skips tasks already indexed under this name, so catch-up passes do not churn the index
+        boolean putIfChanged(long taskId, String name) {
+            Integer doc = docByTaskId.get(taskId);
+            if (doc != null && normalize(name).equals(names[doc])) {
+                return false;
+            }
+            put(taskId, name);
+            return true;
+        }
+
+        void put(long taskId, String name) {
+            remove(taskId);
+
+            int doc = docCount++;
+            if (doc == taskIds.length) {
+                int capacity = taskIds.length + (taskIds.length >> 1);
+                taskIds = Arrays.copyOf(taskIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+            }
+
+            String normalized = normalize(name);
+            taskIds[doc] = taskId;
+            names[doc] = normalized;
+            docByTaskId.put(taskId, doc);
+
+            for (long trigram : trigrams(normalized)) {
+                postings.computeIfAbsent(trigram, key -> new IntList()).add(doc);
+            }
+        }
+
+        void remove(long taskId) {
+            Integer doc = docByTaskId.remove(taskId);
+            if (doc == null) {
+                return;
+            }
+            tombstones.set(doc);
+            names[doc] = null;
+            tombstoneCount++;
+
+            if (docCount > COMPACT_MIN_DOCS && tombstoneCount > docCount / 2) {
+                compact();
+            }
+        }
+
+        private void compact() {
+            NameIndex live = new NameIndex();
+            for (int doc = 0; doc < docCount; doc++) {
+                if (!tombstones.get(doc)) {
+                    live.put(taskIds[doc], names[doc]);
+                }
+            }
+            postings = live.postings;
+            docByTaskId = live.docByTaskId;
+            taskIds = live.taskIds;
+            names = live.names;
+            tombstones = live.tombstones;
+            docCount = live.docCount;
+            tombstoneCount = 0;
+        }
+
+        List<Long> search(String query, int limit, int maxCandidates) {
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, Hit.BEST_FIRST.reversed());
+            int matched = 0;
+
+            long[] grams = trigrams(query);
+            if (grams.length == 0) {
+                // Too short for trigrams: scan the names in memory, newest first
+                for (int doc = docCount - 1; doc >= 0 && matched < maxCandidates; doc--) {
+                    String name = names[doc];
+                    if (name != null && name.contains(query)) {
+                        matched++;
+                        offer(top, new Hit(doc, name, query), limit);
+                    }
+                }
+            } else {
+                // Walk the rarest trigram's posting list; contains() rejects docs that
+                // have every trigram but not as one contiguous substring
+                IntList rarest = null;
+                for (long gram : grams) {
+                    IntList list = postings.get(gram);
+                    if (list == null) {
+                        return new ArrayList<>();
+                    }
+                    if (rarest == null || list.size < rarest.size) {
+                        rarest = list;
+                    }
+                }
+
+                for (int i = rarest.size - 1; i >= 0 && matched < maxCandidates; i--) {
+                    int doc = rarest.values[i];
+                    String name = names[doc];
+                    if (name != null && name.contains(query)) {
+                        matched++;
+                        offer(top, new Hit(doc, name, query), limit);
+                    }
+                }
+            }
+
+            Hit[] hits = top.toArray(new Hit[0]);
+            Arrays.sort(hits, Hit.BEST_FIRST);
+
+            List<Long> ids = new ArrayList<>(hits.length);
+            for (Hit hit : hits) {
+                ids.add(taskIds[hit.doc]);
+            }
+            return ids;
+        }
+
+        // Keeps the best `limit` hits; the worst one sits at the head of the queue
+        private static void offer(PriorityQueue<Hit> top, Hit hit, int limit) {
+            top.offer(hit);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+    }
+
+    private static final class Hit {
+
+        // Exact match, then prefix, then start of a word, then anywhere; shorter names
+        // rank higher; newest task wins ties
+        static final Comparator<Hit> BEST_FIRST = Comparator
+                .comparingInt((Hit hit) -> hit.rank)
+                .thenComparingInt(hit -> hit.length)
+                .thenComparing(Comparator.comparingInt((Hit hit) -> hit.doc).reversed());
+
+        private final int doc;
+        private final int rank;
+        private final int length;
+
+        private Hit(int doc, String name, String query) {
+            this.doc = doc;
+            this.length = name.length();
+
+            int at = name.indexOf(query);
+            if (name.length() == query.length()) {
+                rank = 0;
+            } else if (at == 0) {
+                rank = 1;
+            } else if (!Character.isLetterOrDigit(name.charAt(at - 1))) {
+                rank = 2;
+            } else {
+                rank = 3;
+            }
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+    }
+}
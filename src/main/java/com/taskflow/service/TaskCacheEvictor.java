@@ -0,0 +1,113 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.replica.ReplicaRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class TaskCacheEvictor {
+
+    public static final String CACHE_NAME = "tasks";
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCacheEvictor.class);
+
+    private static final List<String> ALL_LIST_KEYS = allListKeys();
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskChangeSequence taskChangeSequence;
+
+    @Autowired
+    private TaskListCache taskListCache;
+
+    @Autowired(required = false)   // present when taskflow.replicas.enabled=true
+    private ReplicaRouter replicaRouter;
+
+    // Evict a single task entry (key = task id)
+    public void evictTask(Long id) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null && id != null) {
+            cache.evict(id);
+            evictAgainAfterReplicaLag(() -> cache.evict(id));
+        }
+    }
+
+    // Evict only the list keys a task with this status/priority belongs to
+    public void evictListKeys(TaskStatus status, TaskPriority priority) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add("all");
+        if (status != null) {
+            keys.add("status-" + status);
+        }
+        if (priority != null) {
+            keys.add("priority-" + priority);
+        }
+        evictLists(keys);
+
+        logger.debug("Evicted list cache keys: all, status-{}, priority-{}", status, priority);
+    }
+
+    // Every list key, for writes made by other instances (see TaskChangeWatcher)
+    public void evictAllLists() {
+        evictLists(ALL_LIST_KEYS);
+
+        logger.debug("Evicted all list cache keys");
+    }
+
+    private void evictLists(List<String> keys) {
+        // Registered before the evictions, so their previous values count as stale from here
+        taskListCache.markStale(keys);
+
+        // Bumped before the evictions as well: a load that read the sequence before this commit
+        // and puts its (old) rows after an eviction fails TaskListCache's re-check instead of
+        // caching them as fresh
+        taskChangeSequence.changed();
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            keys.forEach(cache::evict);
+        }
+
+        // And after them, for the ETags: a list read after observing this value was loaded
+        // after the evictions and reflects this write
+        taskChangeSequence.changed();
+
+        evictAgainAfterReplicaLag(() -> {
+            if (cache != null) {
+                keys.forEach(cache::evict);
+            }
+            taskChangeSequence.changed();   // retires ETags handed out with a lagging replica's list
+        });
+    }
+
+    // A read served by a replica that has not applied this commit yet can re-cache the old
+    // value right after the eviction; evicting once more after max-staleness bounds how long
+    private void evictAgainAfterReplicaLag(Runnable eviction) {
+        if (replicaRouter != null) {
+            TransactionCallbacks.afterCommit(() -> replicaRouter.afterMaxStaleness(eviction));
+        }
+    }
+
+    private static List<String> allListKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add("all");
+        for (TaskStatus status : TaskStatus.values()) {
+            keys.add("status-" + status);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            keys.add("priority-" + priority);
+        }
+        return List.copyOf(keys);
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskflow.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Change counter behind the list ETags. Bumped twice after every committed write
+// that touches a list: before that write's cache evictions, so a list loaded before
+// the commit is never cached as fresh after them, and after the evictions, so a list
+// read after observing sequence N reflects at least change N. Writes made on other
+// instances are bumped in by TaskChangeWatcher within its check interval. The epoch
+// differs per JVM start, so neither a restart nor another instance reissues the same ETag.
+@Component
+public class TaskChangeSequence {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public void changed() {
+        TransactionCallbacks.afterCommit(sequence::incrementAndGet);
+    }
+
+    public long current() {
+        return sequence.get();
+    }
+
+    // Read before loading the list: a write racing the read only makes the tag older, never newer.
+    // Weak: the JSON, CBOR and Smile bodies of one list are equivalent, and Tomcat only
+    // compresses responses without a strong ETag.
+    public String etag() {
+        return etag(sequence.get());
+    }
+
+    public String etag(long sequence) {
+        return "W/\"tasks-" + epoch + "-" + sequence + "\"";
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskflow.service;
+
+import com.taskflow.replica.ReadConsistency;
+import com.taskflow.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Brings writes made by other instances (their API calls, workers, retention) into
+// this instance's list cache and list ETags. Polls the database change counter
+// (task_changes, V9) and, when it moved, evicts every list key and bumps the local
+// TaskChangeSequence as a local write would. A list 304 or a cached list is thus at
+// most one check interval behind the database. Own writes move the counter too and
+// cost one extra list reload per interval. While the counter cannot be read the
+// lists are evicted on every check, so the bound holds.
+@Component
+@ConditionalOnProperty(name = "taskflow.cache.remote-changes.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskChangeWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeWatcher.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCacheEvictor taskCacheEvictor;
+
+    private long lastSeen = -1;
+    private boolean failing;
+
+    @Scheduled(fixedDelayString = "${taskflow.cache.remote-changes.check-interval-ms:1000}")
+    public synchronized void check() {
+        long changes;
+        try {
+            // On the primary: a lagging replica would report the change late
+            changes = ReadConsistency.onPrimary(taskRepository::countTaskChanges);
+        } catch (Exception ex) {
+            if (!failing) {
+                failing = true;
+                logger.warn("Could not read the task change counter, evicting lists on every check: {}",
+                        ex.getMessage());
+            }
+            taskCacheEvictor.evictAllLists();
+            return;
+        }
+
+        if (failing) {
+            failing = false;
+            logger.info("Task change counter readable again");
+        }
+        if (lastSeen >= 0 && changes != lastSeen) {
+            taskCacheEvictor.evictAllLists();
+        }
+        lastSeen = changes;
+    }
+}
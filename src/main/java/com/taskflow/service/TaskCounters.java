@@ -0,0 +1,273 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskStatsResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.replica.ReadConsistency;
+import com.taskflow.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Live task counts per status x priority cell. Writers add deltas after their
+// transaction commits (LongAdder keeps concurrent writers off a shared cache line);
+// reads sum 12 cells and never touch the database. A scheduled GROUP BY corrects
+// any drift, e.g. from writes by other application instances.
+@Component
+public class TaskCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCounters.class);
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final LongAdder[][] counts = newCells();
+
+    // Writers hold the read lock from just before their COMMIT until its deltas are applied;
+    // reconcile holds the write lock while it takes its snapshot. So every commit is either
+    // in the snapshot and already in counts, or after it and also in appliedDuringReconcile.
+    private final ReadWriteLock commitWindow = new ReentrantReadWriteLock();
+
+    // Deltas applied after the reconcile snapshot was taken, non-null only during reconcile
+    private volatile LongAdder[][] appliedDuringReconcile;
+
+    private volatile LocalDateTime lastReconciledAt;
+
+    // ================= WRITES =================
+
+    // Must be called inside the transaction that writes the row, so the delta shares its commit
+    public void created(TaskStatus status, TaskPriority priority) {
+        record(status, priority, 1);
+    }
+
+    public void deleted(TaskStatus status, TaskPriority priority) {
+        record(status, priority, -1);
+    }
+
+    public void changed(TaskStatus oldStatus, TaskPriority oldPriority,
+                        TaskStatus newStatus, TaskPriority newPriority) {
+        if (oldStatus == newStatus && oldPriority == newPriority) {
+            return;
+        }
+        record(oldStatus, oldPriority, -1);
+        record(newStatus, newPriority, 1);
+    }
+
+    // Collected per transaction and applied once it commits. Without one the write has
+    // already committed (autocommit), so the delta is applied at once.
+    private void record(TaskStatus status, TaskPriority priority, long delta) {
+        if (status == null || priority == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            commitWindow.readLock().lock();
+            try {
+                add(status.ordinal(), priority.ordinal(), delta);
+            } finally {
+                commitWindow.readLock().unlock();
+            }
+            return;
+        }
+        pendingDeltas().deltas[status.ordinal()][priority.ordinal()] += delta;
+    }
+
+    // One per transaction; the list only holds the current (not suspended) transaction's
+    private PendingDeltas pendingDeltas() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingDeltas pending && pending.owner == this) {
+                return pending;
+            }
+        }
+        PendingDeltas pending = new PendingDeltas(this);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void add(int s, int p, long delta) {
+        counts[s][p].add(delta);
+
+        LongAdder[][] tracking = appliedDuringReconcile;
+        if (tracking != null) {
+            tracking[s][p].add(delta);
+        }
+    }
+
+    // ================= READS =================
+
+    public long count(TaskStatus status) {
+        long total = 0;
+        for (TaskPriority priority : PRIORITIES) {
+            total += counts[status.ordinal()][priority.ordinal()].sum();
+        }
+        return total;
+    }
+
+    public TaskStatsResponse snapshot() {
+        Map<TaskStatus, Map<TaskPriority, Long>> cells = new EnumMap<>(TaskStatus.class);
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        long total = 0;
+
+        for (TaskPriority priority : PRIORITIES) {
+            byPriority.put(priority, 0L);
+        }
+        for (TaskStatus status : STATUSES) {
+            Map<TaskPriority, Long> row = new EnumMap<>(TaskPriority.class);
+            long statusTotal = 0;
+            for (TaskPriority priority : PRIORITIES) {
+                // Clamp: a delete can land just before the reconcile that counts its row
+                long count = Math.max(0, counts[status.ordinal()][priority.ordinal()].sum());
+                row.put(priority, count);
+                byPriority.merge(priority, count, Long::sum);
+                statusTotal += count;
+            }
+            cells.put(status, row);
+            byStatus.put(status, statusTotal);
+            total += statusTotal;
+        }
+
+        return new TaskStatsResponse(total, byStatus, byPriority, cells, lastReconciledAt);
+    }
+
+    // ================= RECONCILE =================
+
+    // Sets every cell to the database count plus whatever committed after the query's snapshot.
+    // Corrections are added as deltas so concurrent increments are never overwritten.
+    @Scheduled(initialDelay = 0, fixedDelayString = "${taskflow.stats.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        // One snapshot for the whole transaction, fixed by its first statement
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        transaction.setReadOnly(true);
+
+        LongAdder[][] tracking = newCells();
+        try {
+            long[][] database = new long[STATUSES.length][PRIORITIES.length];
+            // On the primary: a lagging replica would "correct" the counters backwards
+            ReadConsistency.onPrimary(() -> transaction.execute(status -> {
+                // Only the snapshot is taken under the lock; commits wait for one round trip.
+                // It reads tasks because H2 snapshots a table on first access, not per transaction.
+                commitWindow.writeLock().lock();
+                try {
+                    entityManager.createNativeQuery("SELECT COUNT(*) FROM tasks WHERE id = 0").getSingleResult();
+                    appliedDuringReconcile = tracking;
+                } finally {
+                    commitWindow.writeLock().unlock();
+                }
+                for (Object[] row : taskRepository.countGroupByStatusAndPriority()) {
+                    database[((TaskStatus) row[0]).ordinal()][((TaskPriority) row[1]).ordinal()] = (Long) row[2];
+                }
+                return null;
+            }));
+
+            // No delta is half applied (in counts but not yet in tracking) while the cells are read
+            long drift = 0;
+            commitWindow.writeLock().lock();
+            try {
+                for (int s = 0; s < STATUSES.length; s++) {
+                    for (int p = 0; p < PRIORITIES.length; p++) {
+                        long correction = database[s][p] + tracking[s][p].sum() - counts[s][p].sum();
+                        if (correction != 0) {
+                            counts[s][p].add(correction);
+                            drift += Math.abs(correction);
+                        }
+                    }
+                }
+                appliedDuringReconcile = null;
+            } finally {
+                commitWindow.writeLock().unlock();
+            }
+
+            if (lastReconciledAt == null) {
+                logger.info("Task counters initialized from the database");
+            } else if (drift > 0) {
+                logger.warn("Task counters drifted by {}, corrected from the database", drift);
+            }
+            lastReconciledAt = LocalDateTime.now();
+        } catch (Exception ex) {
+            logger.warn("Could not reconcile task counters: {}", ex.getMessage());
+        } finally {
+            appliedDuringReconcile = null;
+        }
+    }
+
+    // ================= TRANSACTION =================
+
+    private static final class PendingDeltas implements TransactionSynchronization {
+
+        private final TaskCounters owner;
+        private final long[][] deltas = new long[STATUSES.length][PRIORITIES.length];
+        private boolean inCommitWindow;
+
+        private PendingDeltas(TaskCounters owner) {
+            this.owner = owner;
+        }
+
+        // Flushed first: a writer must not wait on another's row locks while in the commit
+        // window, or a reconcile queued for the write lock would deadlock them both
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!readOnly) {
+                owner.entityManager.flush();
+            }
+            owner.commitWindow.readLock().lock();
+            inCommitWindow = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (!inCommitWindow) {
+                return;
+            }
+            try {
+                if (status == STATUS_COMMITTED) {
+                    for (int s = 0; s < STATUSES.length; s++) {
+                        for (int p = 0; p < PRIORITIES.length; p++) {
+                            if (deltas[s][p] != 0) {
+                                owner.add(s, p, deltas[s][p]);
+                            }
+                        }
+                    }
+                }
+            } finally {
+                owner.commitWindow.readLock().unlock();
+            }
+        }
+    }
+
+    private static LongAdder[][] newCells() {
+        LongAdder[][] cells = new LongAdder[STATUSES.length][PRIORITIES.length];
+        for (int s = 0; s < STATUSES.length; s++) {
+            for (int p = 0; p < PRIORITIES.length; p++) {
+                cells[s][p] = new LongAdder();
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,119 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque keyset cursor: the sort key plus the (column, id) values of the last
+// row of a page, Base64url encoded. Clients only pass it back unchanged.
+public final class TaskCursor {
+
+    // Only sort orders backed by an index (always ending in id as tie-breaker)
+    public enum SortKey {
+        ID("id"),                               // ascending
+        CREATED_AT("createdAt"),                // oldest first
+        PRIORITY_CREATED_AT("priority");        // HIGH > MEDIUM > LOW, newest first within a priority
+
+        private final String param;
+
+        SortKey(String param) {
+            this.param = param;
+        }
+
+        public String getParam() {
+            return param;
+        }
+
+        public static SortKey fromParam(String param) {
+            for (SortKey key : values()) {
+                if (key.param.equalsIgnoreCase(param)) {
+                    return key;
+                }
+            }
+            throw new InvalidRequestException(
+                    "sortBy must be one of: id, createdAt, priority (was '" + param + "')");
+        }
+    }
+
+    private static final String SEPARATOR = "|";
+
+    private final SortKey sortKey;
+    private final Long id;
+    private final LocalDateTime createdAt;
+    private final TaskPriority priority;
+
+    private TaskCursor(SortKey sortKey, Long id, LocalDateTime createdAt, TaskPriority priority) {
+        this.sortKey = sortKey;
+        this.id = id;
+        this.createdAt = createdAt;
+        this.priority = priority;
+    }
+
+    // Cursor pointing just after the given (last returned) task
+    public static TaskCursor after(SortKey sortKey, TaskResponse task) {
+        return new TaskCursor(sortKey, task.getId(), task.getCreatedAt(), task.getPriority());
+    }
+
+    public static TaskCursor decode(String encoded, SortKey expectedSortKey) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+
+            SortKey sortKey = SortKey.valueOf(parts[0]);
+            if (sortKey != expectedSortKey) {
+                throw new InvalidRequestException(
+                        "Cursor was issued for sortBy=" + sortKey.getParam() + ", not " + expectedSortKey.getParam());
+            }
+
+            switch (sortKey) {
+                case ID:
+                    return new TaskCursor(sortKey, Long.parseLong(parts[1]), null, null);
+                case CREATED_AT:
+                    return new TaskCursor(sortKey, Long.parseLong(parts[2]), LocalDateTime.parse(parts[1]), null);
+                default:
+                    return new TaskCursor(sortKey, Long.parseLong(parts[3]), LocalDateTime.parse(parts[2]),
+                            TaskPriority.valueOf(parts[1]));
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new InvalidRequestException("Invalid cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String raw;
+        switch (sortKey) {
+            case ID:
+                raw = sortKey.name() + SEPARATOR + id;
+                break;
+            case CREATED_AT:
+                raw = sortKey.name() + SEPARATOR + createdAt + SEPARATOR + id;
+                break;
+            default:
+                raw = sortKey.name() + SEPARATOR + priority + SEPARATOR + createdAt + SEPARATOR + id;
+                break;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public SortKey getSortKey() {
+        return sortKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,289 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.Task;
+import com.taskflow.exception.ServiceUnavailableException;
+import com.taskflow.repository.TaskRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Group commit for createTask: request threads enqueue their Task and block (at
+// most max-wait), a single writer thread inserts everything queued (up to max-batch-size, waiting
+// at most max-latency for more) in one transaction, and completes each caller
+// only after that commit. One fsync is shared by the whole batch; the INSERTs go
+// out as one JDBC batch, rewritten to multi-row INSERTs by reWriteBatchedInserts.
+@Component
+@ConditionalOnProperty(name = "taskflow.group-commit.enabled", havingValue = "true")
+public class TaskGroupCommitter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskGroupCommitter.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    @Value("${taskflow.group-commit.max-batch-size:50}")
+    private int maxBatchSize;
+
+    @Value("${taskflow.group-commit.max-latency:5ms}")
+    private Duration maxLatency;
+
+    @Value("${taskflow.group-commit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${taskflow.group-commit.max-wait:30s}")
+    private Duration maxWait;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    private BlockingQueue<PendingInsert> queue;
+    private TransactionTemplate transactionTemplate;
+    private DistributionSummary batchSizes;
+    private Timer commitTimer;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    // Submitters hold the read lock from the accepting check through their offer; closing
+    // takes the write lock, so once it is released no offer can reach the queue any more
+    // and the writer's last drain sees every queued insert.
+    private final ReadWriteLock admission = new ReentrantReadWriteLock();
+    private boolean accepting;
+
+    // ================= LIFECYCLE =================
+
+    @Override
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        batchSizes = DistributionSummary.builder("taskflow.group_commit.batch.size")
+                .description("Tasks inserted per group commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        commitTimer = Timer.builder("taskflow.group_commit.commit")
+                .description("Time to insert and commit one group")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("taskflow.group_commit.queue.depth", queue, BlockingQueue::size)
+                .description("Creates waiting for the group commit writer")
+                .register(meterRegistry);
+
+        admission.writeLock().lock();
+        try {
+            accepting = true;
+        } finally {
+            admission.writeLock().unlock();
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "task-group-commit");
+        writer.start();
+
+        logger.info("Group commit enabled: max {} tasks or {} ms per commit", maxBatchSize, maxLatency.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        closeAdmission();
+        running = false;
+        try {
+            // The writer drains what is already queued before it exits
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Group commit writer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ================= SUBMIT =================
+
+    // Returns the persisted task (with its generated id) once its batch has committed
+    public Task submit(Task task) {
+        PendingInsert pending = new PendingInsert(task);
+
+        boolean queued;
+        admission.readLock().lock();
+        try {
+            queued = accepting && queue.offer(pending);
+        } finally {
+            admission.readLock().unlock();
+        }
+        if (!queued) {
+            // Stopping or saturated: commit on the caller's thread rather than reject
+            logger.debug("Group commit queue unavailable, inserting task directly");
+            return insertDirectly(task);
+        }
+
+        try {
+            return pending.future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Group commit failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            // Still queued: the writer never took it, so it is safe to insert here instead
+            if (queue.remove(pending)) {
+                logger.warn("Group commit did not pick up a task within {} ms, inserting it directly",
+                        maxWait.toMillis());
+                return insertDirectly(task);
+            }
+            // Taken into a batch whose commit has not finished: its outcome is unknown
+            throw new ServiceUnavailableException(
+                    "Task insert did not commit within " + maxWait.toMillis() + " ms");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for the group commit", ex);
+        }
+    }
+
+    private Task insertDirectly(Task task) {
+        return transactionTemplate.execute(status -> insert(task));
+    }
+
+    // Counted inside the inserting transaction so the counters see exactly this commit
+    private Task insert(Task task) {
+        Task saved = taskRepository.save(task);
+        taskCounters.created(saved.getStatus(), saved.getPriority());
+        return saved;
+    }
+
+    private void closeAdmission() {
+        admission.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            admission.writeLock().unlock();
+        }
+    }
+
+    // ================= WRITER =================
+
+    private void runWriter() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Fill up to the batch size, but never hold the first caller longer than max-latency
+                long deadline = System.nanoTime() + maxLatency.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception ex) {
+                logger.error("Group commit writer failed", ex);
+                batch.forEach(pending -> pending.future.completeExceptionally(ex));
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // Interrupted: nobody will commit these, fail them instead of leaving callers blocked.
+        // Closed first, so nothing can be offered after this drain.
+        closeAdmission();
+        PendingInsert left;
+        while ((left = queue.poll()) != null) {
+            left.future.completeExceptionally(new IllegalStateException("Group commit writer stopped"));
+        }
+    }
+
+    private void commit(List<PendingInsert> batch) {
+        List<Task> tasks = new ArrayList<>(batch.size());
+        for (PendingInsert pending : batch) {
+            tasks.add(pending.task);
+        }
+
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> tasks.forEach(this::insert));
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(ex);
+                return;
+            }
+            // One bad row must not fail the others: retry each in its own transaction
+            logger.warn("Group commit of {} tasks failed ({}), retrying individually", batch.size(), ex.getMessage());
+            for (PendingInsert pending : batch) {
+                pending.task.setId(null);   // id from the rolled back attempt
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(pending.task));
+                    pending.future.complete(pending.task);
+                } catch (RuntimeException single) {
+                    pending.future.completeExceptionally(single);
+                }
+            }
+            return;
+        }
+
+        // Committed: only now may the callers answer
+        commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizes.record(batch.size());
+        for (PendingInsert pending : batch) {
+            pending.future.complete(pending.task);
+        }
+    }
+
+    private static final class PendingInsert {
+
+        private final Task task;
+        private final CompletableFuture<Task> future = new CompletableFuture<>();
+
+        private PendingInsert(Task task) {
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+// Read-through for the list keys of the "tasks" cache ('all', status-X, priority-X)
+// with single-flight loads and stale-while-revalidate.
+//   - fresh entry in the cache: returned as before
+//   - evicted by a write at most max-stale ago: the previous value is returned at
+//     once and one background refresh reloads the key
+//   - otherwise: the first caller loads, concurrent callers wait for its result
+// Either way at most one query per key is in flight. The last value of each key
+// is kept with the change sequence it was loaded at, and every list is returned
+// with the sequence it reflects, so a stale list is answered with the older ETag
+// it belongs to and never cached by a client under a newer one.
+@Component
+public class TaskListCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskListCache.class);
+
+    @Value("${taskflow.cache.list.max-stale:2s}")
+    private Duration maxStale;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskChangeSequence taskChangeSequence;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Loaded> lastLoaded = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Loaded>> inFlight = new ConcurrentHashMap<>();
+
+    private final ExecutorService refresher =
+            Executors.newFixedThreadPool(2, new CustomizableThreadFactory("task-list-refresh-"));
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // ================= READ =================
+
+    public VersionedTaskList get(String key, Supplier<List<TaskResponse>> loader) {
+        // Read before the cache, like the list ETag: a fresh entry reflects at least this change
+        long sequence = taskChangeSequence.current();
+
+        Cache.ValueWrapper cached = targetCache().get(key);
+        if (cached != null) {
+            count("hit");
+            @SuppressWarnings("unchecked")
+            List<TaskResponse> value = (List<TaskResponse>) cached.get();
+            return new VersionedTaskList(value, sequence);
+        }
+
+        Loaded last = lastLoaded.get(key);
+        if (last != null && System.nanoTime() - last.staleSinceNanos() <= maxStale.toNanos()) {
+            refreshInBackground(key, loader);
+            count("stale");
+            return last.versioned();
+        }
+
+        CompletableFuture<Loaded> leader = new CompletableFuture<>();
+        CompletableFuture<Loaded> running = inFlight.putIfAbsent(key, leader);
+        if (running != null) {
+            count("coalesced");
+            return await(running).versioned();
+        }
+
+        // Loads on the caller's thread, inside its read-only transaction
+        count("load");
+        return loadInto(leader, key, loader).versioned();
+    }
+
+    // Called by TaskCacheEvictor before it evicts the keys, so a reader that misses an
+    // evicted key already finds the previous value marked with when it went stale
+    public void markStale(List<String> keys) {
+        TransactionCallbacks.afterCommit(() -> keys.forEach(this::markStale));
+    }
+
+    private void markStale(String key) {
+        Loaded last = lastLoaded.get(key);
+        if (last != null && !last.stale) {
+            last.staleSinceNanos = System.nanoTime();
+            last.stale = true;
+        }
+    }
+
+    // ================= LOAD =================
+
+    private void refreshInBackground(String key, Supplier<List<TaskResponse>> loader) {
+        CompletableFuture<Loaded> leader = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, leader) == null) {
+            refresher.execute(() -> {
+                try {
+                    loadInto(leader, key, loader);
+                } catch (RuntimeException ex) {
+                    logger.warn("Background refresh of task list '{}' failed: {}", key, ex.getMessage());
+                }
+            });
+        }
+    }
+
+    private Loaded loadInto(CompletableFuture<Loaded> leader, String key, Supplier<List<TaskResponse>> loader) {
+        try {
+            Loaded loaded = load(key, loader);
+            leader.complete(loaded);
+            return loaded;
+        } catch (RuntimeException ex) {
+            leader.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    private Loaded load(String key, Supplier<List<TaskResponse>> loader) {
+        // Read before the query, like the list ETag: the result reflects at least this change
+        long sequence = taskChangeSequence.current();
+        long startNanos = System.nanoTime();
+        Loaded loaded = new Loaded(loader.get(), sequence, startNanos);
+
+        lastLoaded.merge(key, loaded, (previous, next) -> next.sequence >= previous.sequence ? next : previous);
+
+        // Only cached as fresh when no write committed meanwhile (its eviction may already have run)
+        Cache cache = targetCache();
+        if (taskChangeSequence.current() == sequence) {
+            cache.put(key, loaded.value);
+            if (taskChangeSequence.current() != sequence) {
+                cache.evict(key);
+            }
+        }
+        return loaded;
+    }
+
+    // Puts go straight to Caffeine: a read has nothing to wait for, and a put deferred to the
+    // end of the caller's transaction would land after the sequence check above
+    private Cache targetCache() {
+        Cache cache = cacheManager.getCache(TaskCacheEvictor.CACHE_NAME);
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+    }
+
+    private static Loaded await(CompletableFuture<Loaded> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("taskflow.cache.list.reads", "outcome", outcome).increment();
+    }
+
+    private static final class Loaded {
+
+        private final List<TaskResponse> value;
+        private final long sequence;
+        private final long loadStartNanos;
+        private volatile long staleSinceNanos;
+        private volatile boolean stale;
+
+        private Loaded(List<TaskResponse> value, long sequence, long loadStartNanos) {
+            this.value = value;
+            this.sequence = sequence;
+            this.loadStartNanos = loadStartNanos;
+        }
+
+        // Not marked: evicted by expiry, or by a write that raced the load; the load start bounds it
+        long staleSinceNanos() {
+            return stale ? staleSinceNanos : loadStartNanos;
+        }
+
+        VersionedTaskList versioned() {
+            return new VersionedTaskList(value, sequence);
+        }
+    }
+}
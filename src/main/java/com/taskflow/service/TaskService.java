@@ -1,29 +1,53 @@
 package com.taskflow.service;
 
+import com.taskflow.dto.BatchResponse;
+import com.taskflow.dto.CursorPageResponse;
+import com.taskflow.dto.TaskBatchUpdateRequest;
+import com.taskflow.dto.TaskLookupResponse;
 import com.taskflow.dto.TaskRequest;
 import com.taskflow.dto.TaskResponse;
+import com.taskflow.dto.TaskStatusBatchUpdateRequest;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
     
     TaskResponse createTask(TaskRequest request);
     
-    List<TaskResponse> getAllTasks();
+    VersionedTaskList getAllTasks();
+    
+    void streamAllTasks(Consumer<TaskResponse> consumer);
     
     Page<TaskResponse> getAllTasksPaginated(Pageable pageable);
     
+    CursorPageResponse<TaskResponse> getTasksByCursor(String cursor, int size, String sortBy, boolean includeTotal);
+    
     TaskResponse getTaskById(Long id);
+
+    TaskLookupResponse getTasksByIds(List<Long> ids);
     
     TaskResponse updateTask(Long id, TaskRequest request);
     
+    TaskResponse updateTaskStatus(Long id, TaskStatus expectedStatus, TaskStatus status);
+    
     void deleteTask(Long id);
     
-    List<TaskResponse> getTasksByStatus(String status);
+    BatchResponse createTasks(List<TaskRequest> requests);
+    
+    BatchResponse updateTasks(List<TaskBatchUpdateRequest> requests);
+    
+    BatchResponse updateTaskStatuses(List<TaskStatusBatchUpdateRequest> requests);
+    
+    BatchResponse deleteTasks(List<Long> ids);
+    
+    VersionedTaskList getTasksByStatus(TaskStatus status);
     
-    List<TaskResponse> getTasksByPriority(String priority);
+    VersionedTaskList getTasksByPriority(TaskPriority priority);
     
-    List<TaskResponse> searchTasksByName(String keyword);
+    List<TaskResponse> searchTasksByName(String keyword, int limit);
 }
\ No newline at end of file
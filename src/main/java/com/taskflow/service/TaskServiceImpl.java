@@ -1,26 +1,62 @@
 package com.taskflow.service;
 
+import com.taskflow.dto.BatchItemResult;
+import com.taskflow.dto.BatchResponse;
+import com.taskflow.dto.CursorPageResponse;
+import com.taskflow.dto.TaskBatchUpdateRequest;
+import com.taskflow.dto.TaskLookupResponse;
 import com.taskflow.dto.TaskRequest;
 import com.taskflow.dto.TaskResponse;
+import com.taskflow.dto.TaskStatusBatchUpdateRequest;
 import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.exception.ConflictException;
+import com.taskflow.exception.InvalidRequestException;
 import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.feed.TaskChangeFeed;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.rollup.TaskRollups;
+import com.taskflow.search.TaskNameIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)   // reads skip flush/dirty-checking and use a read-only connection; writes opt in below
+@Timed(value = "taskflow.service", histogram = true)   // one timer per method (tags: class, method, exception)
 public class TaskServiceImpl implements TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
@@ -28,17 +64,67 @@ public class TaskServiceImpl implements TaskService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskCacheEvictor taskCacheEvictor;
+
+    @Autowired
+    private TaskListCache taskListCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskNameIndex taskNameIndex;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private TaskRollups taskRollups;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)   // present when taskflow.group-commit.enabled=true
+    private TaskGroupCommitter taskGroupCommitter;
+
+    // Ids per IN (...) query for multi-get misses
+    @Value("${taskflow.lookup.chunk-size:200}")
+    private int lookupChunkSize;
+
+    // The insert commits on its own (its own transaction or group commit), so a caller
+    // waiting for its batch holds no connection; the hooks below then run immediately.
+    // The counter delta is recorded inside the inserting transaction instead.
     @Override
-    @CacheEvict(value = "tasks", allEntries = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CachePut(value = "tasks", key = "#result.id")
     public TaskResponse createTask(TaskRequest request) {
         logger.info("Creating new task with name: {}", request.getName());
 
         Task task = new Task();
         task.setName(request.getName());
         task.setPriority(request.getPriority());
-        task.setStatus("QUEUED");   // default status
-
-        Task savedTask = taskRepository.save(task);
+        task.setStatus(TaskStatus.QUEUED);   // default status
+
+        Task savedTask = taskGroupCommitter != null
+                ? taskGroupCommitter.submit(task)
+                : new TransactionTemplate(transactionManager).execute(status -> {
+                    Task saved = taskRepository.save(task);
+                    taskCounters.created(saved.getStatus(), saved.getPriority());
+                    return saved;
+                });
+
+        // Only the list keys this task shows up in are stale
+        taskCacheEvictor.evictListKeys(savedTask.getStatus(), savedTask.getPriority());
+        taskNameIndex.put(savedTask.getId(), savedTask.getName());
+        taskRollups.created(savedTask.getStatus(), savedTask.getPriority());
+        taskChangeFeed.created(savedTask);
 
         logger.info("Task created successfully with ID: {}", savedTask.getId());
 
@@ -46,36 +132,137 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    @Cacheable(value = "tasks", key = "'all'")
-    public List<TaskResponse> getAllTasks() {
-        List<Task> tasks = taskRepository.findAll();
+    public VersionedTaskList getAllTasks() {
+        return taskListCache.get("all", taskRepository::findAllResponses);
+    }
 
-        return tasks.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    // ================= STREAM ALL =================
+    @Override
+    public void streamAllTasks(Consumer<TaskResponse> consumer) {
+
+        // DTO rows are never managed, so the persistence context does not grow with the table
+        long count = 0;
+        try (Stream<TaskResponse> tasks = taskRepository.streamAllResponses()) {
+            for (TaskResponse task : (Iterable<TaskResponse>) tasks::iterator) {
+                consumer.accept(task);
+                count++;
+            }
+        }
+
+        logger.info("Streamed {} tasks", count);
     }
 
     @Override
     public Page<TaskResponse> getAllTasksPaginated(Pageable pageable) {
-        Page<Task> taskPage = taskRepository.findAll(pageable);
-        return taskPage.map(this::mapToResponse);
+        return taskRepository.findResponsePage(pageable);
+    }
+
+    // ================= KEYSET (CURSOR) PAGINATION =================
+    @Override
+    public CursorPageResponse<TaskResponse> getTasksByCursor(String cursor, int size,
+                                                             String sortBy, boolean includeTotal) {
+
+        TaskCursor.SortKey sortKey = TaskCursor.SortKey.fromParam(sortBy);
+        TaskCursor after = (cursor == null || cursor.isBlank())
+                ? null
+                : TaskCursor.decode(cursor, sortKey);
+
+        // Fetch one extra row to know whether another page exists
+        Limit limit = Limit.of(size + 1);
+        List<TaskResponse> tasks;
+
+        switch (sortKey) {
+            case ID:
+                tasks = after == null
+                        ? taskRepository.findFirstPageById(limit)
+                        : taskRepository.findPageAfterId(after.getId(), limit);
+                break;
+            case CREATED_AT:
+                tasks = after == null
+                        ? taskRepository.findFirstPageByCreatedAt(limit)
+                        : taskRepository.findPageAfterCreatedAt(after.getCreatedAt(), after.getId(), limit);
+                break;
+            default:
+                tasks = after == null
+                        ? taskRepository.findFirstPageByPriority(limit)
+                        : taskRepository.findPageAfterPriorityAndCreatedAt(
+                                after.getPriority(), after.getCreatedAt(), after.getId(), limit);
+                break;
+        }
+
+        boolean hasNext = tasks.size() > size;
+        if (hasNext) {
+            tasks = tasks.subList(0, size);
+        }
+
+        String nextCursor = hasNext
+                ? TaskCursor.after(sortKey, tasks.get(tasks.size() - 1)).encode()
+                : null;
+
+        Long total = includeTotal ? taskRepository.count() : null;
+
+        return new CursorPageResponse<>(tasks, tasks.size(), hasNext, nextCursor, total);
     }
 
     @Override
     @Cacheable(value = "tasks", key = "#id")
     public TaskResponse getTaskById(Long id) {
 
-        Task task = taskRepository.findById(id)
+        return taskRepository.findResponseById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Task", "id", id)
                 );
+    }
 
-        return mapToResponse(task);
+    // ================= MULTI-GET =================
+    // Same cache entries as getTaskById: hits are served from the cache, the misses are
+    // loaded with chunked IN queries and cached (after this read transaction, like @Cacheable)
+    @Override
+    public TaskLookupResponse getTasksByIds(List<Long> ids) {
+
+        Cache cache = cacheManager.getCache(TaskCacheEvictor.CACHE_NAME);
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Map<Long, TaskResponse> found = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+
+        for (Long id : requested) {
+            TaskResponse cached = cache != null ? cache.get(id, TaskResponse.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += lookupChunkSize) {
+            List<Long> chunk = misses.subList(from, Math.min(from + lookupChunkSize, misses.size()));
+            for (TaskResponse task : taskRepository.findResponsesByIdIn(chunk)) {
+                found.put(task.getId(), task);
+                if (cache != null) {
+                    cache.put(task.getId(), task);
+                }
+            }
+        }
+
+        List<TaskResponse> tasks = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            TaskResponse task = found.get(id);
+            if (task != null) {
+                tasks.add(task);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        logger.debug("Multi-get of {} ids: {} from cache, {} loaded, {} missing",
+                requested.size(), requested.size() - misses.size(), misses.size() - missing.size(), missing.size());
+        return new TaskLookupResponse(tasks, missing);
     }
 
     @Override
+    @Transactional
     @CachePut(value = "tasks", key = "#id")
-    @CacheEvict(value = "tasks", key = "'all'")
     public TaskResponse updateTask(Long id, TaskRequest request) {
 
         logger.info("Updating task with ID: {}", id);
@@ -85,21 +272,138 @@ public class TaskServiceImpl implements TaskService {
                         new ResourceNotFoundException("Task", "id", id)
                 );
 
-        // 🔥 FIXED PART
-        task.setName(request.getName());
-        task.setPriority(request.getPriority());
-        task.setStatus(request.getStatus());   // IMPORTANT LINE
+        TaskStatus oldStatus = task.getStatus();
+        TaskPriority oldPriority = task.getPriority();
 
-        Task updatedTask = taskRepository.save(task);
+        task.setName(request.getName());
+        // Null fields keep their current value instead of nulling a NOT NULL column
+        if (request.getPriority() != null) {
+            task.setPriority(request.getPriority());
+        }
+        if (request.getStatus() != null) {
+            task.setStatus(request.getStatus());
+        }
+
+        // Flushed so the response carries the bumped version and updatedAt
+        Task updatedTask = taskRepository.saveAndFlush(task);
+
+        // Evict the lists the task left as well as the ones it joined
+        taskCacheEvictor.evictListKeys(oldStatus, oldPriority);
+        taskCacheEvictor.evictListKeys(updatedTask.getStatus(), updatedTask.getPriority());
+        taskNameIndex.put(updatedTask.getId(), updatedTask.getName());
+        taskCounters.changed(oldStatus, oldPriority, updatedTask.getStatus(), updatedTask.getPriority());
+        taskRollups.changed(oldStatus, updatedTask.getStatus(), updatedTask.getPriority());
+        taskChangeFeed.updated(updatedTask, oldStatus, oldPriority);
 
         logger.info("Task updated successfully with ID: {}", updatedTask.getId());
 
         return mapToResponse(updatedTask);
     }
 
+    // ================= STATUS TRANSITION (compare-and-set) =================
+    @Override
+    @Transactional
+    @CachePut(value = "tasks", key = "#id")
+    public TaskResponse updateTaskStatus(Long id, TaskStatus expectedStatus, TaskStatus status) {
+
+        if (!expectedStatus.canTransitionTo(status)) {
+            throw new InvalidRequestException("Illegal status transition " + expectedStatus + " -> " + status);
+        }
+
+        Optional<Task> updated = taskRepository.compareAndSetStatus(
+                id, expectedStatus.getCode(), status.getCode(), LocalDateTime.now());
+
+        if (updated.isEmpty()) {
+            // Not applied: tell a missing task apart from one that moved on
+            TaskResponse current = taskRepository.findResponseById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+            throw new ConflictException("Task " + id + " is " + current.getStatus()
+                    + ", expected " + expectedStatus);
+        }
+
+        Task task = updated.get();
+        statusChanged(task, expectedStatus);
+
+        logger.info("Task {} moved {} -> {}", id, expectedStatus, status);
+
+        return mapToResponse(task);
+    }
+
+    @Override
+    @Transactional
+    public BatchResponse updateTaskStatuses(List<TaskStatusBatchUpdateRequest> requests) {
+
+        logger.info("Updating status of {} tasks in batch", requests.size());
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Map<Long, Integer> indexById = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskStatusBatchUpdateRequest request = requests.get(i);
+            String error = validate(request);
+            if (error == null && !request.getExpectedStatus().canTransitionTo(request.getStatus())) {
+                error = "Illegal status transition " + request.getExpectedStatus() + " -> " + request.getStatus();
+            }
+            if (error == null && indexById.putIfAbsent(request.getId(), i) != null) {
+                error = "Duplicate id in batch";
+            }
+            if (error != null) {
+                Long id = request == null ? null : request.getId();
+                results[i] = BatchItemResult.failure(i, id, BatchItemResult.Outcome.INVALID, error);
+            }
+        }
+
+        if (!indexById.isEmpty()) {
+            Long[] ids = new Long[indexById.size()];
+            Short[] fromCodes = new Short[ids.length];
+            Short[] toCodes = new Short[ids.length];
+            int n = 0;
+            for (Map.Entry<Long, Integer> entry : indexById.entrySet()) {
+                TaskStatusBatchUpdateRequest request = requests.get(entry.getValue());
+                ids[n] = entry.getKey();
+                fromCodes[n] = request.getExpectedStatus().getCode();
+                toCodes[n] = request.getStatus().getCode();
+                n++;
+            }
+
+            // One UPDATE ... FROM unnest(...) RETURNING for every valid item
+            for (Task task : taskRepository.compareAndSetStatuses(ids, fromCodes, toCodes, LocalDateTime.now())) {
+                int i = indexById.remove(task.getId());
+                results[i] = BatchItemResult.success(i, BatchItemResult.Outcome.UPDATED, mapToResponse(task));
+                statusChanged(task, requests.get(i).getExpectedStatus());
+            }
+
+            // Whatever is left was not applied: missing, or no longer in the expected status
+            if (!indexById.isEmpty()) {
+                Map<Long, TaskStatus> currentStatus = taskRepository.findResponsesByIdIn(indexById.keySet()).stream()
+                        .collect(Collectors.toMap(TaskResponse::getId, TaskResponse::getStatus));
+
+                indexById.forEach((id, i) -> {
+                    TaskStatus current = currentStatus.get(id);
+                    results[i] = current == null
+                            ? BatchItemResult.failure(i, id, BatchItemResult.Outcome.NOT_FOUND,
+                                    "Task not found with id: '" + id + "'")
+                            : BatchItemResult.failure(i, id, BatchItemResult.Outcome.CONFLICT,
+                                    "Task is " + current + ", expected " + requests.get(i).getExpectedStatus());
+                });
+            }
+        }
+
+        return new BatchResponse(Arrays.asList(results));
+    }
+
+    private void statusChanged(Task task, TaskStatus previousStatus) {
+        taskCacheEvictor.evictTask(task.getId());
+        taskCacheEvictor.evictListKeys(previousStatus, task.getPriority());
+        taskCacheEvictor.evictListKeys(task.getStatus(), task.getPriority());
+        taskCounters.changed(previousStatus, task.getPriority(), task.getStatus(), task.getPriority());
+        taskRollups.changed(previousStatus, task.getStatus(), task.getPriority());
+        taskChangeFeed.updated(task, previousStatus, task.getPriority());
+    }
+
     // ================= DELETE =================
     @Override
-    @CacheEvict(value = "tasks", allEntries = true)
+    @Transactional
     public void deleteTask(Long id) {
 
         Task task = taskRepository.findById(id)
@@ -108,41 +412,230 @@ public class TaskServiceImpl implements TaskService {
                 );
 
         taskRepository.delete(task);
+
+        taskCacheEvictor.evictTask(id);
+        taskCacheEvictor.evictListKeys(task.getStatus(), task.getPriority());
+        taskNameIndex.remove(id);
+        taskCounters.deleted(task.getStatus(), task.getPriority());
+        taskChangeFeed.deleted(task);
     }
 
-    // ================= FILTER BY STATUS =================
+    // ================= BATCH CREATE =================
     @Override
-    @Cacheable(value = "tasks", key = "'status-' + #status")
-    public List<TaskResponse> getTasksByStatus(String status) {
-
-        List<Task> tasks = taskRepository.findByStatus(status);
-
-        return tasks.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    @Transactional
+    public BatchResponse createTasks(List<TaskRequest> requests) {
+
+        logger.info("Creating {} tasks in batch", requests.size());
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Task> toSave = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            String error = validate(request);
+            if (error == null && request.getPriority() == null) {
+                error = "priority: Priority is required";
+            }
+            if (error != null) {
+                results[i] = BatchItemResult.failure(i, null, BatchItemResult.Outcome.INVALID, error);
+                continue;
+            }
+
+            Task task = new Task();
+            task.setName(request.getName());
+            task.setPriority(request.getPriority());
+            task.setStatus(TaskStatus.QUEUED);   // default status
+            toSave.add(task);
+            indexes.add(i);
+        }
+
+        // Ids come from the pooled sequence, so the INSERTs are sent as JDBC batches on flush
+        List<Task> savedTasks = taskRepository.saveAll(toSave);
+
+        for (int j = 0; j < savedTasks.size(); j++) {
+            Task saved = savedTasks.get(j);
+            results[indexes.get(j)] = BatchItemResult.success(
+                    indexes.get(j), BatchItemResult.Outcome.CREATED, mapToResponse(saved));
+            taskCacheEvictor.evictListKeys(saved.getStatus(), saved.getPriority());
+            taskNameIndex.put(saved.getId(), saved.getName());
+            taskCounters.created(saved.getStatus(), saved.getPriority());
+            taskRollups.created(saved.getStatus(), saved.getPriority());
+            taskChangeFeed.created(saved);
+        }
+
+        logger.info("Batch create finished: {} of {} tasks created", savedTasks.size(), requests.size());
+
+        return new BatchResponse(Arrays.asList(results));
     }
 
+    // ================= BATCH UPDATE =================
     @Override
-    @Cacheable(value = "tasks", key = "'priority-' + #priority")
-    public List<TaskResponse> getTasksByPriority(String priority) {
-
-        List<Task> tasks = taskRepository.findByPriority(priority);
+    @Transactional
+    public BatchResponse updateTasks(List<TaskBatchUpdateRequest> requests) {
+
+        logger.info("Updating {} tasks in batch", requests.size());
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for (TaskBatchUpdateRequest request : requests) {
+            if (request != null && request.getId() != null) {
+                ids.add(request.getId());
+            }
+        }
+
+        // One SELECT ... WHERE id IN (...) instead of a findById per item
+        Map<Long, Task> tasksById = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskBatchUpdateRequest request = requests.get(i);
+            String error = validate(request);
+            if (error != null) {
+                Long id = request == null ? null : request.getId();
+                results[i] = BatchItemResult.failure(i, id, BatchItemResult.Outcome.INVALID, error);
+                continue;
+            }
+
+            Task task = tasksById.get(request.getId());
+            if (task == null) {
+                results[i] = BatchItemResult.failure(i, request.getId(), BatchItemResult.Outcome.NOT_FOUND,
+                        "Task not found with id: '" + request.getId() + "'");
+                continue;
+            }
+
+            taskCacheEvictor.evictListKeys(task.getStatus(), task.getPriority());
+            TaskStatus oldStatus = task.getStatus();
+            TaskPriority oldPriority = task.getPriority();
+
+            task.setName(request.getName());
+            // Null fields keep their current value instead of violating NOT NULL for the whole batch
+            if (request.getPriority() != null) {
+                task.setPriority(request.getPriority());
+            }
+            if (request.getStatus() != null) {
+                task.setStatus(request.getStatus());
+            }
+
+            taskCacheEvictor.evictTask(task.getId());
+            taskCacheEvictor.evictListKeys(task.getStatus(), task.getPriority());
+            taskNameIndex.put(task.getId(), task.getName());
+            taskCounters.changed(oldStatus, oldPriority, task.getStatus(), task.getPriority());
+            taskRollups.changed(oldStatus, task.getStatus(), task.getPriority());
+            taskChangeFeed.updated(task, oldStatus, oldPriority);
+        }
+
+        // Dirty entities go out as batched UPDATEs; flushing now also fills updatedAt for the response
+        taskRepository.flush();
+
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] == null) {
+                Task task = tasksById.get(requests.get(i).getId());
+                results[i] = BatchItemResult.success(i, BatchItemResult.Outcome.UPDATED, mapToResponse(task));
+            }
+        }
+
+        return new BatchResponse(Arrays.asList(results));
+    }
 
-        return tasks.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    // ================= BATCH DELETE =================
+    @Override
+    @Transactional
+    public BatchResponse deleteTasks(List<Long> ids) {
+
+        logger.info("Deleting {} tasks in batch", ids.size());
+
+        Map<Long, Task> tasksById = taskRepository.findAllById(new LinkedHashSet<>(ids)).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // Single DELETE ... WHERE id IN (...)
+        if (!tasksById.isEmpty()) {
+            taskRepository.deleteAllByIdInBatch(tasksById.keySet());
+        }
+
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (!seen.add(id)) {
+                // The row is deleted (and counted) once, for its first occurrence
+                results.add(BatchItemResult.failure(i, id, BatchItemResult.Outcome.INVALID,
+                        "Duplicate id in batch"));
+                continue;
+            }
+            Task task = tasksById.get(id);
+            if (task == null) {
+                results.add(BatchItemResult.failure(i, id, BatchItemResult.Outcome.NOT_FOUND,
+                        "Task not found with id: '" + id + "'"));
+                continue;
+            }
+
+            results.add(BatchItemResult.success(i, BatchItemResult.Outcome.DELETED, mapToResponse(task)));
+            taskCacheEvictor.evictTask(id);
+            taskCacheEvictor.evictListKeys(task.getStatus(), task.getPriority());
+            taskNameIndex.remove(id);
+            taskCounters.deleted(task.getStatus(), task.getPriority());
+            taskChangeFeed.deleted(task);
+        }
+
+        return new BatchResponse(results);
     }
 
+    // ================= FILTER BY STATUS =================
     @Override
-    public List<TaskResponse> searchTasksByName(String keyword) {
+    public VersionedTaskList getTasksByStatus(TaskStatus status) {
+        return taskListCache.get("status-" + status, () -> taskRepository.findResponsesByStatus(status));
+    }
 
-        List<Task> tasks = taskRepository.findByNameContainingIgnoreCase(keyword);
+    @Override
+    public VersionedTaskList getTasksByPriority(TaskPriority priority) {
+        return taskListCache.get("priority-" + priority, () -> taskRepository.findResponsesByPriority(priority));
+    }
 
-        return tasks.stream()
-                .map(this::mapToResponse)
+    // ================= SEARCH =================
+    @Override
+    public List<TaskResponse> searchTasksByName(String keyword, int limit) {
+
+        if (!taskNameIndex.isReady()) {
+            // Index not built yet (or disabled): same semantics, straight from the database
+            return taskRepository.findByNameContainingIgnoreCase(keyword, Limit.of(limit)).stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toList());
+        }
+
+        // Ranked ids from memory, then one primary key lookup for at most `limit` rows
+        List<Long> ids = taskNameIndex.search(keyword, limit);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, TaskResponse> tasksById = taskRepository.findResponsesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+
+        return ids.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)   // deleted after the index was read
                 .collect(Collectors.toList());
     }
 
+    // Bean Validation for batch items (single requests are validated by @Valid in the controller)
+    private <T> String validate(T request) {
+        if (request == null) {
+            return "Item cannot be null";
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
     private TaskResponse mapToResponse(Task task) {
         return new TaskResponse(
                 task.getId(),
@@ -150,7 +643,8 @@ public class TaskServiceImpl implements TaskService {
                 task.getStatus(),
                 task.getPriority(),
                 task.getCreatedAt(),
-                task.getUpdatedAt()
+                task.getUpdatedAt(),
+                task.getVersion()
         );
     }
 }
\ No newline at end of file
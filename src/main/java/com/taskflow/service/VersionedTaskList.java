@@ -0,0 +1,10 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskResponse;
+
+import java.util.List;
+
+// A task list with the change sequence it reflects (TaskChangeSequence), for its ETag.
+// A list served stale while its refresh runs carries the older sequence it was loaded at.
+public record VersionedTaskList(List<TaskResponse> tasks, long sequence) {
+}
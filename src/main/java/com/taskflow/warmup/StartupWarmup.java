@@ -0,0 +1,123 @@
+package com.taskflow.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Exercises the TaskController read paths over real HTTP before the app takes traffic.
+// Runners complete before Spring Boot publishes ReadinessState.ACCEPTING_TRAFFIC, so
+// /actuator/health/readiness stays OUT_OF_SERVICE until this returns: the JIT has
+// compiled the hot request path, the list caches are primed and the connection pool
+// is filled, instead of the first user requests paying for all of it.
+// Read-only: the one POST is an invalid body that stops at validation (400).
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final List<String> PRIMING_PATHS = List.of(
+            "/api/tasks",
+            "/api/tasks/status/QUEUED",
+            "/api/tasks/status/IN_PROGRESS",
+            "/api/tasks/status/COMPLETED",
+            "/api/tasks/status/FAILED",
+            "/api/tasks/priority/HIGH",
+            "/api/tasks/priority/MEDIUM",
+            "/api/tasks/priority/LOW");
+
+    private static final List<String> LOOP_PATHS = List.of(
+            "/api/tasks/1",
+            "/api/tasks/cursor?size=20",
+            "/api/tasks/paginated?page=0&size=10",
+            "/api/tasks/search?keyword=task&limit=20",
+            "/api/tasks/stats",
+            "/api/tasks/status/QUEUED");
+
+    @Value("${taskflow.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${taskflow.warmup.iterations:300}")
+    private int iterations;
+
+    @Value("${taskflow.warmup.max-duration:20s}")
+    private Duration maxDuration;
+
+    @Autowired
+    private Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String port = environment.getProperty("local.server.port");
+        if (!enabled || port == null) {
+            return;   // disabled, or no embedded web server (tests, benchmarks)
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        String base = "http://localhost:" + port;
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+
+        int requests = 0;
+        int failures = 0;
+        try {
+            // Once each: fills the list cache keys the frontend polls
+            for (String path : PRIMING_PATHS) {
+                failures += get(client, base + path, "application/json") ? 0 : 1;
+                requests++;
+            }
+
+            for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+                for (String path : LOOP_PATHS) {
+                    failures += get(client, base + path, "application/json") ? 0 : 1;
+                    requests++;
+                }
+                failures += invalidCreate(client, base + "/api/tasks") ? 0 : 1;
+                requests++;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            // Never block startup on warmup problems
+            logger.warn("Warmup aborted: {}", ex.getMessage());
+        }
+
+        logger.info("Warmup finished: {} requests ({} failed) in {} ms", requests, failures,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // 2xx, 304 and 404 (e.g. task 1 does not exist) all ran the full request path
+    private static boolean get(HttpClient client, String url, String accept) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Accept", accept)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        return status < 400 || status == 404;
+    }
+
+    // Jackson binding, Bean Validation and the exception handler, without a write
+    private static boolean invalidCreate(HttpClient client, String url) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"\",\"priority\":\"HIGH\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 400;
+    }
+}
@@ -0,0 +1,285 @@
+package com.taskflow.worker;
+
+import com.taskflow.dto.LaneStatsResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// In-memory HIGH/MEDIUM/LOW lanes between the database and the workers.
+// Lanes are refilled in batches (claimed with SKIP LOCKED, so they are already
+// IN_PROGRESS and leased to this node). Workers take from the lanes with smooth
+// weighted round-robin, and any lane head older than the aging threshold is
+// served first so LOW tasks cannot starve under sustained HIGH load.
+public class PriorityDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriorityDispatcher.class);
+
+    private final TaskClaimService taskClaimService;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    private final Duration agingThreshold;
+    private final Duration refillInterval;
+    private final int laneCapacity;
+
+    private final List<Lane> lanes = new ArrayList<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition needsRefill = lock.newCondition();
+
+    private volatile boolean running;
+    private Thread refiller;
+
+    public PriorityDispatcher(TaskClaimService taskClaimService, String nodeId,
+                              Duration leaseDuration, Duration agingThreshold, Duration refillInterval,
+                              int laneCapacity, int highWeight, int mediumWeight, int lowWeight) {
+        this.taskClaimService = taskClaimService;
+        this.nodeId = nodeId;
+        this.leaseDuration = leaseDuration;
+        this.agingThreshold = agingThreshold;
+        this.refillInterval = refillInterval;
+        this.laneCapacity = laneCapacity;
+
+        lanes.add(new Lane(TaskPriority.HIGH, highWeight));
+        lanes.add(new Lane(TaskPriority.MEDIUM, mediumWeight));
+        lanes.add(new Lane(TaskPriority.LOW, lowWeight));
+    }
+
+    // ================= LIFECYCLE =================
+
+    public void start() {
+        running = true;
+        refiller = new Thread(this::runRefiller, "task-dispatch-refill");
+        refiller.setDaemon(true);
+        refiller.start();
+    }
+
+    // Stops refilling and returns the buffered tasks so the caller can release their leases
+    public List<Task> stop() {
+        running = false;
+
+        List<Task> drained = new ArrayList<>();
+        lock.lock();
+        try {
+            needsRefill.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        // Let an in-flight claim finish so its tasks end up in the lanes (or get released)
+        try {
+            refiller.join(leaseDuration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        lock.lock();
+        try {
+            for (Lane lane : lanes) {
+                drained.addAll(lane.queue);
+                lane.queue.clear();
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return drained;
+    }
+
+    // ================= DISPATCH =================
+
+    // Next task for a worker, or null if nothing arrived within the timeout
+    public Task next(Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+
+        lock.lock();
+        try {
+            while (running) {
+                Lane lane = select(LocalDateTime.now());
+                if (lane != null) {
+                    Task task = lane.queue.poll();
+                    lane.recordDispatch(task);
+                    if (lane.queue.size() <= laneCapacity / 2) {
+                        needsRefill.signal();
+                    }
+                    return task;
+                }
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Caller holds the lock
+    private Lane select(LocalDateTime now) {
+
+        // 1. Aging: the oldest lane head past the threshold wins regardless of weight
+        Lane aged = null;
+        LocalDateTime agingCutoff = now.minus(agingThreshold);
+        for (Lane lane : lanes) {
+            Task head = lane.queue.peek();
+            if (head != null && head.getCreatedAt().isBefore(agingCutoff)
+                    && (aged == null || head.getCreatedAt().isBefore(aged.queue.peek().getCreatedAt()))) {
+                aged = lane;
+            }
+        }
+        if (aged != null) {
+            aged.promoted.increment();
+            return aged;
+        }
+
+        // 2. Smooth weighted round-robin over the non-empty lanes
+        Lane best = null;
+        int totalWeight = 0;
+        for (Lane lane : lanes) {
+            if (lane.queue.isEmpty()) {
+                continue;
+            }
+            lane.currentWeight += lane.weight;
+            totalWeight += lane.weight;
+            if (best == null || lane.currentWeight > best.currentWeight) {
+                best = lane;
+            }
+        }
+        if (best != null) {
+            best.currentWeight -= totalWeight;
+        }
+        return best;
+    }
+
+    // ================= REFILL =================
+
+    private void runRefiller() {
+        while (running) {
+            try {
+                boolean claimedAny = false;
+                for (Lane lane : lanes) {
+                    claimedAny |= refill(lane);
+                }
+
+                lock.lock();
+                try {
+                    if (!claimedAny && running) {
+                        needsRefill.await(refillInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                logger.error("Refilling dispatch lanes failed on node {}", nodeId, ex);
+                try {
+                    Thread.sleep(refillInterval.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean refill(Lane lane) {
+        int missing;
+        lock.lock();
+        try {
+            if (lane.queue.size() > laneCapacity / 2) {
+                return false;
+            }
+            missing = laneCapacity - lane.queue.size();
+        } finally {
+            lock.unlock();
+        }
+
+        // DB round trip outside the lock so workers keep draining the other lanes
+        List<Task> claimed = taskClaimService.claim(nodeId, lane.priority, missing, leaseDuration);
+        if (claimed.isEmpty()) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (running) {
+                lane.queue.addAll(claimed);
+                notEmpty.signalAll();
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // Stopped while claiming: hand the tasks straight back
+        for (Task task : claimed) {
+            taskClaimService.release(task, nodeId);
+        }
+        return false;
+    }
+
+    // ================= STATS =================
+
+    public List<LaneStatsResponse> getLaneStats() {
+        List<LaneStatsResponse> stats = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Lane lane : lanes) {
+                long dispatched = lane.dispatched.sum();
+                stats.add(new LaneStatsResponse(
+                        lane.priority,
+                        lane.weight,
+                        lane.queue.size(),
+                        dispatched,
+                        lane.promoted.sum(),
+                        dispatched == 0 ? 0 : lane.totalWaitMillis.sum() / dispatched,
+                        lane.maxWaitMillis.get()
+                ));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return stats;
+    }
+
+    private static final class Lane {
+
+        private final TaskPriority priority;
+        private final int weight;
+        private final ArrayDeque<Task> queue = new ArrayDeque<>();
+        private int currentWeight;
+
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder promoted = new LongAdder();
+        private final LongAdder totalWaitMillis = new LongAdder();
+        private final LongAccumulator maxWaitMillis = new LongAccumulator(Long::max, 0);
+
+        private Lane(TaskPriority priority, int weight) {
+            this.priority = priority;
+            this.weight = weight;
+        }
+
+        // Wait time = time from creation until a worker picks the task up
+        private void recordDispatch(Task task) {
+            long waited = Duration.between(task.getCreatedAt(), LocalDateTime.now()).toMillis();
+            dispatched.increment();
+            totalWaitMillis.add(waited);
+            maxWaitMillis.accumulate(waited);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.taskflow.worker;
+
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.feed.TaskChangeFeed;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.rollup.TaskRollups;
+import com.taskflow.service.TaskCacheEvictor;
+import com.taskflow.service.TaskCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class TaskClaimService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskClaimService.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCacheEvictor taskCacheEvictor;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private TaskRollups taskRollups;
+
+    // ================= CLAIM =================
+    // SELECT ... FOR UPDATE SKIP LOCKED, so parallel workers (and app instances) never claim the same row
+    @Transactional
+    public List<Task> claim(String owner, TaskPriority priority, int limit, Duration leaseDuration) {
+
+        List<Task> tasks = taskRepository.lockNextQueuedTasks(priority.getCode(), limit);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(leaseDuration);
+
+        for (Task task : tasks) {
+            task.setStatus(TaskStatus.IN_PROGRESS);
+            task.setLeaseOwner(owner);
+            task.setLeaseExpiresAt(expiresAt);
+            task.setAttempts(task.getAttempts() + 1);
+
+            evict(task, TaskStatus.QUEUED);
+        }
+
+        if (!tasks.isEmpty()) {
+            logger.debug("Worker {} claimed {} {} tasks", owner, tasks.size(), priority);
+        }
+        return tasks;
+    }
+
+    // ================= FINISH =================
+    @Transactional
+    public boolean complete(Task task, String owner) {
+        return finish(task, owner, TaskStatus.COMPLETED, null);
+    }
+
+    @Transactional
+    public boolean fail(Task task, String owner, String error) {
+        return finish(task, owner, TaskStatus.FAILED, error);
+    }
+
+    // Hand a claimed but unprocessed task back (e.g. on shutdown). The attempt counted at
+    // claim time is taken back, so a task that only waited in a lane buffer across restarts
+    // does not run out of attempts.
+    @Transactional
+    public boolean release(Task task, String owner) {
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = taskRepository.releaseLeasedTask(task.getId(), owner, now);
+        if (updated == 0) {
+            logger.warn("Worker {} lost the lease on task {}, release not recorded", owner, task.getId());
+            return false;
+        }
+
+        task.setAttempts(task.getAttempts() - 1);
+        recorded(task, TaskStatus.QUEUED, null, now);
+        return true;
+    }
+
+    // ================= LEASES =================
+    @Transactional
+    public int renewLeases(String owner, Duration leaseDuration) {
+        return taskRepository.renewLeases(owner, LocalDateTime.now().plus(leaseDuration));
+    }
+
+    // Requeue tasks whose worker stopped heartbeating; give up after maxAttempts
+    @Transactional
+    public int reapExpiredLeases(int maxAttempts, int limit) {
+
+        List<Task> expired = taskRepository.lockExpiredLeases(LocalDateTime.now(), limit);
+
+        for (Task task : expired) {
+            logger.warn("Lease of {} on task {} expired (attempt {})",
+                    task.getLeaseOwner(), task.getId(), task.getAttempts());
+
+            if (task.getAttempts() >= maxAttempts) {
+                task.setStatus(TaskStatus.FAILED);
+                task.setLastError("Lease expired after " + task.getAttempts() + " attempts");
+            } else {
+                task.setStatus(TaskStatus.QUEUED);
+            }
+            task.setLeaseOwner(null);
+            task.setLeaseExpiresAt(null);
+
+            evict(task, TaskStatus.IN_PROGRESS);
+        }
+
+        return expired.size();
+    }
+
+    private boolean finish(Task task, String owner, TaskStatus status, String error) {
+
+        if (error != null && error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = taskRepository.finishLeasedTask(task.getId(), owner, status, error, now);
+        if (updated == 0) {
+            // Reaped and possibly re-claimed elsewhere; the new owner records the outcome
+            logger.warn("Worker {} lost the lease on task {}, {} not recorded", owner, task.getId(), status);
+            return false;
+        }
+
+        recorded(task, status, error, now);
+        return true;
+    }
+
+    // Mirrors the bulk UPDATE on this detached copy
+    private void recorded(Task task, TaskStatus status, String error, LocalDateTime now) {
+        task.setStatus(status);
+        task.setLastError(error);
+        task.setLeaseOwner(null);
+        task.setLeaseExpiresAt(null);
+        task.setUpdatedAt(now);
+        task.setVersion(task.getVersion() + 1);
+
+        evict(task, TaskStatus.IN_PROGRESS);
+    }
+
+    // Every status transition passes through here
+    private void evict(Task task, TaskStatus previousStatus) {
+        taskCacheEvictor.evictTask(task.getId());
+        taskCacheEvictor.evictListKeys(previousStatus, task.getPriority());
+        taskCacheEvictor.evictListKeys(task.getStatus(), task.getPriority());
+        taskCounters.changed(previousStatus, task.getPriority(), task.getStatus(), task.getPriority());
+        taskRollups.changed(previousStatus, task.getStatus(), task.getPriority());
+        taskChangeFeed.updated(task, previousStatus, task.getPriority());
+    }
+}
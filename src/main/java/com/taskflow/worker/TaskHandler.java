@@ -0,0 +1,13 @@
+package com.taskflow.worker;
+
+import com.taskflow.entity.Task;
+
+// SPI for executing QUEUED tasks. Register implementations as Spring beans;
+// the first handler (by @Order) whose supports() returns true runs the task.
+public interface TaskHandler {
+
+    boolean supports(Task task);
+
+    // Throwing marks the task FAILED with the exception message
+    void handle(Task task) throws Exception;
+}
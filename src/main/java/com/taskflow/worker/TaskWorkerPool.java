@@ -0,0 +1,249 @@
+package com.taskflow.worker;
+
+import com.taskflow.dto.LaneStatsResponse;
+import com.taskflow.entity.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "taskflow.worker.enabled", havingValue = "true")
+public class TaskWorkerPool implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskWorkerPool.class);
+
+    private static final int REAPER_BATCH_SIZE = 100;
+
+    @Value("${taskflow.worker.threads:4}")
+    private int threads;
+
+    @Value("${taskflow.worker.poll-interval:1s}")
+    private Duration pollInterval;
+
+    @Value("${taskflow.worker.lease-duration:60s}")
+    private Duration leaseDuration;
+
+    @Value("${taskflow.worker.heartbeat-interval:20s}")
+    private Duration heartbeatInterval;
+
+    @Value("${taskflow.worker.reaper-interval:30s}")
+    private Duration reaperInterval;
+
+    @Value("${taskflow.worker.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${taskflow.worker.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${taskflow.dispatcher.lane-capacity:20}")
+    private int laneCapacity;
+
+    @Value("${taskflow.dispatcher.aging-threshold:5m}")
+    private Duration agingThreshold;
+
+    @Value("${taskflow.dispatcher.weight.high:6}")
+    private int highWeight;
+
+    @Value("${taskflow.dispatcher.weight.medium:3}")
+    private int mediumWeight;
+
+    @Value("${taskflow.dispatcher.weight.low:1}")
+    private int lowWeight;
+
+    @Autowired
+    private TaskClaimService taskClaimService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private List<TaskHandler> handlers = new ArrayList<>();
+
+    private volatile boolean running;
+    private String nodeId;
+    private PriorityDispatcher dispatcher;
+    private ExecutorService workers;
+    private ScheduledExecutorService leaseScheduler;
+
+    // ================= LIFECYCLE =================
+
+    @Override
+    public void start() {
+        nodeId = configuredNodeId.isBlank() ? defaultNodeId() : configuredNodeId;
+        running = true;
+
+        dispatcher = new PriorityDispatcher(taskClaimService, nodeId, leaseDuration, agingThreshold,
+                pollInterval, laneCapacity, highWeight, mediumWeight, lowWeight);
+        dispatcher.start();
+
+        workers = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("task-worker-"));
+        for (int i = 0; i < threads; i++) {
+            workers.submit(this::runWorker);
+        }
+
+        leaseScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("task-lease-"));
+        leaseScheduler.scheduleWithFixedDelay(this::heartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        leaseScheduler.scheduleWithFixedDelay(this::reap,
+                reaperInterval.toMillis(), reaperInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        logger.info("Started {} task workers as node {} with {} handlers", threads, nodeId, handlers.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        // Buffered tasks are leased to this node but never started: put them back in the queue
+        for (Task task : dispatcher.stop()) {
+            taskClaimService.release(task, nodeId);
+        }
+
+        workers.shutdown();
+        try {
+            // Let running handlers finish; their leases are still heartbeated meanwhile
+            if (!workers.awaitTermination(leaseDuration.toMillis(), TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        leaseScheduler.shutdownNow();
+
+        logger.info("Stopped task workers on node {}", nodeId);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public List<LaneStatsResponse> getLaneStats() {
+        return dispatcher == null ? Collections.emptyList() : dispatcher.getLaneStats();
+    }
+
+    // ================= WORKER LOOP =================
+
+    private void runWorker() {
+        while (running) {
+            try {
+                Task task = dispatcher.next(pollInterval);
+                if (task == null) {
+                    continue;
+                }
+
+                if (running) {
+                    execute(task);
+                } else {
+                    taskClaimService.release(task, nodeId);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                logger.error("Task worker on node {} failed", nodeId, ex);
+            }
+        }
+    }
+
+    private void execute(Task task) {
+        TaskHandler handler = findHandler(task);
+        if (handler == null) {
+            taskClaimService.fail(task, nodeId, "No TaskHandler supports this task");
+            return;
+        }
+
+        long start = System.nanoTime();
+        String outcome;
+        try {
+            handler.handle(task);
+            taskClaimService.complete(task, nodeId);
+            outcome = "completed";
+            logger.info("Task {} completed in {} ms", task.getId(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            taskClaimService.release(task, nodeId);
+            outcome = "released";
+        } catch (Exception ex) {
+            logger.warn("Task {} failed: {}", task.getId(), ex.getMessage());
+            taskClaimService.fail(task, nodeId, ex.getClass().getSimpleName() + ": " + ex.getMessage());
+            outcome = "failed";
+        }
+
+        Timer.builder("taskflow.worker.execution")
+                .description("Task handler execution time")
+                .tag("priority", String.valueOf(task.getPriority()))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private TaskHandler findHandler(Task task) {
+        for (TaskHandler handler : handlers) {
+            if (handler.supports(task)) {
+                return handler;
+            }
+        }
+        return null;
+    }
+
+    // ================= LEASES =================
+
+    private void heartbeat() {
+        try {
+            int renewed = taskClaimService.renewLeases(nodeId, leaseDuration);
+            logger.debug("Node {} renewed {} leases", nodeId, renewed);
+        } catch (Exception ex) {
+            logger.warn("Lease heartbeat failed on node {}", nodeId, ex);
+        }
+    }
+
+    private void reap() {
+        try {
+            int reaped;
+            do {
+                reaped = taskClaimService.reapExpiredLeases(maxAttempts, REAPER_BATCH_SIZE);
+                if (reaped > 0) {
+                    logger.info("Reaper on node {} recovered {} tasks with expired leases", nodeId, reaped);
+                }
+            } while (reaped == REAPER_BATCH_SIZE && running);
+        } catch (Exception ex) {
+            logger.warn("Lease reaper failed on node {}", nodeId, ex);
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception ex) {
+            host = "worker";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
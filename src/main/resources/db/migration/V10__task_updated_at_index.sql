@@ -0,0 +1,3 @@
+-- TaskNameIndex catch-up: rows changed since the last pass (findIdAndNameUpdatedSince)
+CREATE INDEX IF NOT EXISTS idx_tasks_updated_at
+    ON tasks (updated_at);
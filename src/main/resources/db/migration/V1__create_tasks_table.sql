@@ -0,0 +1,10 @@
+-- Baseline schema (matches what ddl-auto=update created before Flyway was added).
+-- Existing databases are baselined at version 1 and skip this script.
+CREATE TABLE IF NOT EXISTS tasks (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    status      VARCHAR(255) NOT NULL,
+    priority    VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6)
+);
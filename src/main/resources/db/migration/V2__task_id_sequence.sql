@@ -0,0 +1,11 @@
+-- Ids now come from a pooled sequence (allocationSize = 50 on Task.id) so Hibernate
+-- can batch inserts; IDENTITY columns force one INSERT round trip per row.
+CREATE SEQUENCE IF NOT EXISTS task_id_seq START WITH 1 INCREMENT BY 50;
+
+-- The pooled optimizer hands out (value - 49 .. value), so the first value must
+-- clear the highest existing id by a whole block.
+SELECT setval('task_id_seq', (SELECT COALESCE(MAX(id), 0) FROM tasks) + 50, false);
+
+-- Old IDENTITY / serial default would now hand out colliding ids
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tasks ALTER COLUMN id DROP DEFAULT;
@@ -0,0 +1,5 @@
+-- Lease columns used by the built-in worker engine (SKIP LOCKED claiming + heartbeats)
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS lease_owner      VARCHAR(100);
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP(6);
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS attempts         INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS last_error       VARCHAR(1000);
@@ -0,0 +1,20 @@
+-- status / priority become smallint codes (TaskStatus / TaskPriority enums).
+-- Unknown values make the migration fail instead of being silently remapped.
+ALTER TABLE tasks ALTER COLUMN status TYPE SMALLINT USING (
+    CASE status
+        WHEN 'QUEUED'      THEN 0
+        WHEN 'IN_PROGRESS' THEN 1
+        WHEN 'COMPLETED'   THEN 2
+        WHEN 'FAILED'      THEN 3
+    END);
+
+-- Codes follow urgency so ORDER BY priority DESC is HIGH > MEDIUM > LOW
+ALTER TABLE tasks ALTER COLUMN priority TYPE SMALLINT USING (
+    CASE priority
+        WHEN 'LOW'    THEN 1
+        WHEN 'MEDIUM' THEN 2
+        WHEN 'HIGH'   THEN 3
+    END);
+
+ALTER TABLE tasks ADD CONSTRAINT tasks_status_code_check   CHECK (status BETWEEN 0 AND 3);
+ALTER TABLE tasks ADD CONSTRAINT tasks_priority_code_check CHECK (priority BETWEEN 1 AND 3);
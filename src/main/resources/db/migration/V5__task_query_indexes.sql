@@ -0,0 +1,29 @@
+-- Indexes for the TaskRepository query shapes (checked by TaskRepositoryQueryPlanTest).
+-- status / priority are smallint codes: status 0 = QUEUED, 1 = IN_PROGRESS.
+
+-- findByStatus, findByStatusAndPriority, countTasksByStatus, findRecentTasksByStatus,
+-- findByStatusOrderByPriorityDesc, findHighPriorityQueuedTasks, deleteByStatus
+CREATE INDEX IF NOT EXISTS idx_tasks_status_priority_created_at
+    ON tasks (status, priority, created_at);
+
+-- findByCreatedAtBetween and the createdAt keyset (id is the tie-breaker)
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at
+    ON tasks (created_at, id);
+
+-- findByPriority, countByPriority and the priority keyset
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_created_at_id
+    ON tasks (priority, created_at, id);
+
+-- Worker claim: oldest QUEUED task per lane. Only the (small) queue is indexed.
+CREATE INDEX IF NOT EXISTS idx_tasks_queued
+    ON tasks (priority, created_at)
+    WHERE status = 0;
+
+-- Lease reaper and heartbeats only ever look at IN_PROGRESS rows
+CREATE INDEX IF NOT EXISTS idx_tasks_in_progress_lease_expires_at
+    ON tasks (lease_expires_at)
+    WHERE status = 1;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_in_progress_lease_owner
+    ON tasks (lease_owner)
+    WHERE status = 1;
@@ -0,0 +1,2 @@
+-- Optimistic locking column (Task.version), also the basis of the per-task ETag
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
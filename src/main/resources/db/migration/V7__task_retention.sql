@@ -0,0 +1,20 @@
+-- Retention purge walks finished tasks of one status in id order (keyset chunks),
+-- filtering on age; updated_at is carried in the index so the walk never visits the heap
+CREATE INDEX IF NOT EXISTS idx_tasks_status_id
+    ON tasks (status, id) INCLUDE (updated_at);
+
+-- Purged tasks are copied here first when taskflow.retention.archive=true
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id               BIGINT        PRIMARY KEY,
+    name             VARCHAR(255)  NOT NULL,
+    status           SMALLINT      NOT NULL,
+    priority         SMALLINT      NOT NULL,
+    created_at       TIMESTAMP(6)  NOT NULL,
+    updated_at       TIMESTAMP(6),
+    lease_owner      VARCHAR(100),
+    lease_expires_at TIMESTAMP(6),
+    attempts         INTEGER       NOT NULL,
+    last_error       VARCHAR(1000),
+    version          BIGINT        NOT NULL,
+    archived_at      TIMESTAMP(6)  NOT NULL DEFAULT now()
+);
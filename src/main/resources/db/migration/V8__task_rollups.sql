@@ -0,0 +1,37 @@
+-- Task event counts per time bucket, maintained by TaskRollups and read by
+-- GET /api/tasks/histogram. One row per (resolution, bucket, event, status, priority).
+--   resolution: 0 = minute, 1 = hour, 2 = day (bucket_start truncated to it)
+--   event:      0 = created (status at creation), 1 = finished (entered COMPLETED / FAILED)
+-- Range reads are a prefix scan of the primary key.
+CREATE TABLE IF NOT EXISTS task_rollups (
+    resolution   SMALLINT      NOT NULL,
+    bucket_start TIMESTAMP(0)  NOT NULL,
+    event        SMALLINT      NOT NULL,
+    status       SMALLINT      NOT NULL,
+    priority     SMALLINT      NOT NULL,
+    count        BIGINT        NOT NULL,
+    PRIMARY KEY (resolution, bucket_start, event, status, priority)
+);
+
+-- Backfill from the existing rows. Their status at creation is unknown, so they are
+-- counted under their current status; finish times are taken from updated_at.
+-- Minute and hour rows only cover their default retention (7 and 90 days).
+WITH events AS (
+    SELECT created_at AS at, 0 AS event, status, priority FROM tasks
+    UNION ALL
+    SELECT COALESCE(updated_at, created_at), 1, status, priority FROM tasks WHERE status IN (2, 3)
+),
+buckets AS (
+    SELECT 0 AS resolution, date_trunc('minute', at) AS bucket_start, event, status, priority
+    FROM events WHERE at >= now() - INTERVAL '7 days'
+    UNION ALL
+    SELECT 1, date_trunc('hour', at), event, status, priority
+    FROM events WHERE at >= now() - INTERVAL '90 days'
+    UNION ALL
+    SELECT 2, date_trunc('day', at), event, status, priority
+    FROM events
+)
+INSERT INTO task_rollups (resolution, bucket_start, event, status, priority, count)
+SELECT resolution, bucket_start, event, status, priority, count(*)
+FROM buckets
+GROUP BY resolution, bucket_start, event, status, priority;
@@ -0,0 +1,46 @@
+-- Change counter for the task lists, shared by every instance (read by TaskChangeWatcher).
+-- Every statement that inserts or deletes task rows, or changes their version, bumps one
+-- of 16 slots picked by backend pid, so concurrent writers rarely wait on the same row
+-- lock; the counter is the sum of the slots. The bump is part of the writing transaction
+-- and becomes visible together with the change. Lease heartbeats do not change the
+-- version and are not counted.
+CREATE TABLE IF NOT EXISTS task_changes (
+    slot    SMALLINT  PRIMARY KEY,
+    changes BIGINT    NOT NULL
+);
+
+INSERT INTO task_changes (slot, changes)
+SELECT slot, 0 FROM generate_series(0, 15) AS slot
+ON CONFLICT DO NOTHING;
+
+CREATE OR REPLACE FUNCTION task_changes_bump() RETURNS trigger AS $$
+DECLARE
+    changed BOOLEAN;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        changed := EXISTS (SELECT 1 FROM new_rows);
+    ELSIF TG_OP = 'DELETE' THEN
+        changed := EXISTS (SELECT 1 FROM old_rows);
+    ELSE
+        changed := EXISTS (SELECT 1 FROM new_rows n JOIN old_rows o ON o.id = n.id
+                           WHERE n.version <> o.version);
+    END IF;
+
+    IF changed THEN
+        UPDATE task_changes SET changes = changes + 1 WHERE slot = pg_backend_pid() % 16;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tasks_changes_insert
+    AFTER INSERT ON tasks REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION task_changes_bump();
+
+CREATE TRIGGER tasks_changes_update
+    AFTER UPDATE ON tasks REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION task_changes_bump();
+
+CREATE TRIGGER tasks_changes_delete
+    AFTER DELETE ON tasks REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION task_changes_bump();
@@ -0,0 +1,172 @@
+package com.taskflow.replica;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.service.TaskService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Two independent PostgreSQL instances stand in for primary and replica. Nothing
+// replicates between them, so where a row is visible shows which pool served the
+// read. The replica is not a standby, so the router treats it as caught up as of
+// its one check at startup (check-interval is set far beyond the test run).
+@SpringBootTest(properties = {
+        "taskflow.replicas.enabled=true",
+        "taskflow.replicas.max-staleness=1h",
+        "taskflow.replicas.check-interval=1h",
+        "taskflow.replicas.connection-timeout=1s",
+        "taskflow.worker.enabled=false",
+        "taskflow.warmup.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReplicaRoutingTest {
+
+    private static final long REPLICA_ONLY_ID = 900_001L;
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void dataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("taskflow.replicas.urls", replica::getJdbcUrl);
+    }
+
+    // Flyway only migrates the primary; the replica gets the same schema plus a row of its own
+    @BeforeAll
+    static void prepareReplica() {
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbc(replica).update(
+                "INSERT INTO tasks (id, name, status, priority, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                REPLICA_ONLY_ID, "replica-only", TaskStatus.QUEUED.getCode(), TaskPriority.LOW.getCode(),
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache("tasks").clear();
+    }
+
+    @Test
+    @Order(1)
+    void readOnlyServiceMethodsReadFromTheReplica() {
+        TaskResponse task = taskService.getTaskById(REPLICA_ONLY_ID);
+
+        assertThat(task.getName()).isEqualTo("replica-only");
+    }
+
+    @Test
+    @Order(2)
+    void writesGoToThePrimary() throws Exception {
+        long id = createTask("written-to-primary").id;
+
+        assertThat(countById(primary, id)).isEqualTo(1);
+        assertThat(countById(replica, id)).isZero();
+    }
+
+    @Test
+    @Order(3)
+    void consistencyTokenReadsOwnWrites() throws Exception {
+        Created created = createTask("read-your-writes");
+        cacheManager.getCache("tasks").clear();   // createTask also cached the response
+
+        // Without the token the (never updated) replica serves the read
+        mockMvc.perform(get("/api/tasks/{id}", created.id))
+                .andExpect(status().isNotFound());
+
+        // With it, the replica is older than the write, so the primary serves it
+        mockMvc.perform(get("/api/tasks/{id}", created.id)
+                        .header(ReadYourWritesFilter.HEADER, created.token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(4)
+    void unreachableReplicaIsEjectedAndReadsFallBackToThePrimary() throws Exception {
+        long id = createTask("primary-fallback").id;
+        cacheManager.getCache("tasks").clear();
+
+        replica.stop();
+
+        assertThat(taskService.getTaskById(id).getName()).isEqualTo("primary-fallback");
+    }
+
+    private Created createTask(String name) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\",\"priority\":\"HIGH\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(ReadYourWritesFilter.HEADER))
+                .andReturn();
+
+        Created created = new Created();
+        created.id = ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.id")).longValue();
+        created.token = result.getResponse().getHeader(ReadYourWritesFilter.HEADER);
+        return created;
+    }
+
+    private static int countById(PostgreSQLContainer<?> database, long id) {
+        return jdbc(database).queryForObject("SELECT count(*) FROM tasks WHERE id = ?", Integer.class, id);
+    }
+
+    private static JdbcTemplate jdbc(PostgreSQLContainer<?> database) {
+        return new JdbcTemplate(new DriverManagerDataSource(
+                database.getJdbcUrl(), database.getUsername(), database.getPassword()));
+    }
+
+    private static final class Created {
+        private long id;
+        private String token;
+    }
+}
@@ -1,11 +0,0 @@
-package com.taskflow.repository;
-
-import com.taskflow.entity.Task;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface TaskRepository extends JpaRepository<Task, Long>{
-    
-}
@@ -0,0 +1,220 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.rollup.RollupResolution;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs every TaskRepository query against PostgreSQL with the Flyway schema,
+// captures the SQL Hibernate sends and checks its EXPLAIN plan never falls back
+// to a sequential scan of tasks, and that keyset pages need no sort. A new repository method fails the test until it
+// is listed here (and is index-backed) or explicitly exempted with a reason.
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.taskflow.repository.TaskRepositoryQueryPlanTest$CapturingStatementInspector",
+        "spring.jpa.show-sql=false",
+        "taskflow.worker.enabled=false",
+        // Background jobs query tasks too; keep them out of the captured SQL
+        "taskflow.warmup.enabled=false",
+        "taskflow.rollups.enabled=false",
+        "taskflow.cache.remote-changes.enabled=false",
+        "taskflow.search.index.enabled=false",
+        "taskflow.stats.reconcile-interval-ms=3600000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class TaskRepositoryQueryPlanTest {
+
+    // EXPLAIN (GENERIC_PLAN) needs PostgreSQL 16+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Queries that are allowed to scan, and why
+    private static final Map<String, String> EXEMPT = Map.of(
+            "streamAllResponses", "full export, reads every row by design",
+            "findAllResponses", "unfiltered list of every task (GET /api/tasks)",
+            "streamIdAndName", "builds the in-memory name index from every row",
+            "findByNameContainingIgnoreCase", "infix LIKE cannot use a b-tree index; TaskNameIndex serves search",
+            "existsByName", "not used by the application"
+    );
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyRepositoryQueryIsIndexBacked() {
+
+        Map<String, Runnable> queries = queries();
+
+        Set<String> uncovered = Arrays.stream(TaskRepository.class.getDeclaredMethods())
+                .map(Method::getName)
+                .filter(name -> !queries.containsKey(name) && !EXEMPT.containsKey(name))
+                .collect(Collectors.toCollection(TreeSet::new));
+        assertThat(uncovered)
+                .as("TaskRepository methods without a query plan check (add them to queries() or EXEMPT)")
+                .isEmpty();
+
+        // With sequential scans priced out, a Seq Scan in the plan means no usable index exists
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        List<String> failures = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            CapturingStatementInspector.captureOnCurrentThread();
+            query.run();
+
+            List<String> statements = new ArrayList<>(CapturingStatementInspector.STATEMENTS);
+            assertThat(statements).as("SQL captured for %s", name).isNotEmpty();
+
+            for (String sql : statements) {
+                String plan = explain(sql);
+                if (plan.contains("Seq Scan on tasks") || plan.contains("Seq Scan on task_rollups")) {
+                    failures.add(name + ":\n  " + sql + "\n" + plan);
+                } else if (isKeysetPage(name) && plan.contains("Sort")) {
+                    // A keyset page must come off the index in order (forwards or backwards)
+                    failures.add(name + " sorts instead of reading the index in order:\n  " + sql + "\n" + plan);
+                }
+            }
+        });
+
+        assertThat(failures).as("Queries planned as sequential scans or sorted keyset pages").isEmpty();
+    }
+
+    private Map<String, Runnable> queries() {
+        LocalDateTime now = LocalDateTime.now();
+        Limit limit = Limit.of(20);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByStatus", () -> taskRepository.findByStatus(TaskStatus.QUEUED));
+        queries.put("findByPriority", () -> taskRepository.findByPriority(TaskPriority.HIGH));
+        queries.put("findResponsePage",
+                () -> taskRepository.findResponsePage(PageRequest.of(0, 20, Sort.by("createdAt"))));
+        queries.put("findResponseById", () -> taskRepository.findResponseById(1L));
+        queries.put("findResponsesByIdIn", () -> taskRepository.findResponsesByIdIn(List.of(1L, 2L, 3L)));
+        queries.put("findResponsesByStatus", () -> taskRepository.findResponsesByStatus(TaskStatus.QUEUED));
+        queries.put("findResponsesByPriority", () -> taskRepository.findResponsesByPriority(TaskPriority.HIGH));
+        queries.put("findByStatusAndPriority",
+                () -> taskRepository.findByStatusAndPriority(TaskStatus.QUEUED, TaskPriority.HIGH));
+        queries.put("findByCreatedAtBetween",
+                () -> taskRepository.findByCreatedAtBetween(now.minusDays(1), now));
+        queries.put("findTasksCreatedInLastDays", () -> taskRepository.findTasksCreatedInLastDays(7));
+        queries.put("findIdAndNameUpdatedSince",
+                () -> taskRepository.findIdAndNameUpdatedSince(now.minusMinutes(1)));
+        queries.put("findByStatusOrderByPriorityDesc",
+                () -> taskRepository.findByStatusOrderByPriorityDesc(TaskStatus.QUEUED));
+        queries.put("findRecentTasksByStatus", () -> taskRepository.findRecentTasksByStatus(TaskStatus.COMPLETED));
+        queries.put("findHighPriorityQueuedTasks", () -> taskRepository.findHighPriorityQueuedTasks());
+        queries.put("countTasksByStatus", () -> taskRepository.countTasksByStatus(TaskStatus.FAILED));
+        queries.put("countGroupByStatusAndPriority", () -> taskRepository.countGroupByStatusAndPriority());
+        queries.put("countByPriority", () -> taskRepository.countByPriority(TaskPriority.LOW));
+        queries.put("deleteByStatus", () -> taskRepository.deleteByStatus(TaskStatus.FAILED));
+        queries.put("lockNextQueuedTasks",
+                () -> taskRepository.lockNextQueuedTasks(TaskPriority.MEDIUM.getCode(), 10));
+        queries.put("lockExpiredLeases", () -> taskRepository.lockExpiredLeases(now, 10));
+        queries.put("renewLeases", () -> taskRepository.renewLeases("node-1", now.plusMinutes(1)));
+        queries.put("finishLeasedTask",
+                () -> taskRepository.finishLeasedTask(1L, "node-1", TaskStatus.COMPLETED, null, now));
+        queries.put("releaseLeasedTask", () -> taskRepository.releaseLeasedTask(1L, "node-1", now));
+        queries.put("findFirstPageById", () -> taskRepository.findFirstPageById(limit));
+        queries.put("findPageAfterId", () -> taskRepository.findPageAfterId(100L, limit));
+        queries.put("findFirstPageByCreatedAt", () -> taskRepository.findFirstPageByCreatedAt(limit));
+        queries.put("findPageAfterCreatedAt", () -> taskRepository.findPageAfterCreatedAt(now, 100L, limit));
+        queries.put("findFirstPageByPriority", () -> taskRepository.findFirstPageByPriority(limit));
+        queries.put("findPageAfterPriorityAndCreatedAt",
+                () -> taskRepository.findPageAfterPriorityAndCreatedAt(TaskPriority.MEDIUM, now, 100L, limit));
+        queries.put("compareAndSetStatus", () -> taskRepository.compareAndSetStatus(
+                1L, TaskStatus.QUEUED.getCode(), TaskStatus.IN_PROGRESS.getCode(), now));
+        queries.put("compareAndSetStatuses", () -> taskRepository.compareAndSetStatuses(
+                new Long[] {1L, 2L},
+                new Short[] {TaskStatus.QUEUED.getCode(), TaskStatus.IN_PROGRESS.getCode()},
+                new Short[] {TaskStatus.IN_PROGRESS.getCode(), TaskStatus.COMPLETED.getCode()},
+                now));
+        queries.put("purgeChunk", () -> taskRepository.purgeChunk(
+                TaskStatus.COMPLETED.getCode(), now.minusDays(30), 0L, 1000));
+        queries.put("archiveAndPurgeChunk", () -> taskRepository.archiveAndPurgeChunk(
+                TaskStatus.FAILED.getCode(), now.minusDays(90), 0L, 1000));
+        queries.put("countTaskChanges", () -> taskRepository.countTaskChanges());
+        queries.put("addToRollups", () -> taskRepository.addToRollups(
+                new Short[] {RollupResolution.MINUTE.getCode()}, new LocalDateTime[] {now.withSecond(0).withNano(0)},
+                new Short[] {0}, new Short[] {TaskStatus.QUEUED.getCode()},
+                new Short[] {TaskPriority.HIGH.getCode()}, new Long[] {1L}));
+        queries.put("findRollups", () -> taskRepository.findRollups(
+                RollupResolution.HOUR.getCode(), now.minusDays(1), now));
+        queries.put("purgeRollups", () -> taskRepository.purgeRollups(
+                RollupResolution.MINUTE.getCode(), now.minusDays(7)));
+        return queries;
+    }
+
+    private static boolean isKeysetPage(String name) {
+        return name.startsWith("findFirstPageBy") || name.startsWith("findPageAfter");
+    }
+
+    // GENERIC_PLAN plans the statement with its parameters unbound ($1, $2, ...)
+    private String explain(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered, String.class);
+        return String.join("\n", lines);
+    }
+
+    // Registered through hibernate.session_factory.statement_inspector (instantiated by Hibernate).
+    // Keeps only the test thread's SQL: a scheduled job that still runs (e.g. the startup
+    // counter reconcile) must not land in a query's statements.
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        private static volatile Thread capturing;
+
+        static void captureOnCurrentThread() {
+            capturing = Thread.currentThread();
+            STATEMENTS.clear();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == capturing) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.BatchItemResult;
+import com.taskflow.dto.BatchResponse;
+import com.taskflow.dto.TaskRequest;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Batch delete commits for real (counter deltas are applied after commit), so the
+// test is not @Transactional. The scheduled reconcile only runs once, at startup,
+// and is awaited so it cannot correct the counters behind the test's back.
+@SpringBootTest(properties = {
+        "taskflow.worker.enabled=false",
+        "taskflow.warmup.enabled=false",
+        "taskflow.stats.reconcile-interval-ms=3600000",
+        "spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class TaskBatchDeleteTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void duplicateIdIsDeletedAndCountedOnce() throws InterruptedException {
+        awaitFirstReconcile();
+        long queuedBefore = taskCounters.count(TaskStatus.QUEUED);
+
+        long id = taskService.createTask(new TaskRequest("delete-twice", TaskPriority.HIGH, TaskStatus.QUEUED)).getId();
+        assertThat(taskCounters.count(TaskStatus.QUEUED)).isEqualTo(queuedBefore + 1);
+
+        BatchResponse response = taskService.deleteTasks(List.of(id, id));
+
+        assertThat(response.getResults()).extracting(BatchItemResult::getOutcome)
+                .containsExactly(BatchItemResult.Outcome.DELETED, BatchItemResult.Outcome.INVALID);
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo("Duplicate id in batch");
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(1);
+
+        assertThat(taskRepository.existsById(id)).isFalse();
+        // count() is not clamped at zero, so a second decrement would show here
+        assertThat(taskCounters.count(TaskStatus.QUEUED)).isEqualTo(queuedBefore);
+    }
+
+    private void awaitFirstReconcile() throws InterruptedException {
+        for (int i = 0; i < 100 && taskCounters.snapshot().getLastReconciledAt() == null; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(taskCounters.snapshot().getLastReconciledAt()).as("first counter reconcile").isNotNull();
+    }
+}
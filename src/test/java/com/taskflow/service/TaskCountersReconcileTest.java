@@ -0,0 +1,132 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskRequest;
+import com.taskflow.dto.TaskStatsResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.replica.ReadConsistency;
+import com.taskflow.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Reconciles over and over while other threads create, move and delete tasks. Once the
+// writers stop, the counters must equal the table without another reconcile: a commit
+// counted both by a reconcile's query and as applied after it would show up here.
+@SpringBootTest(properties = {
+        "taskflow.worker.enabled=false",
+        "taskflow.warmup.enabled=false",
+        "taskflow.stats.reconcile-interval-ms=3600000",
+        "spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class TaskCountersReconcileTest {
+
+    private static final int WRITERS = 4;
+    private static final long WRITE_MILLIS = 3000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void countersMatchTheTableAfterReconcilingDuringWrites() throws Exception {
+        awaitFirstReconcile();
+
+        AtomicBoolean stop = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        List<Future<Integer>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            writers.add(executor.submit(() -> write(writer, stop)));
+        }
+
+        int reconciles = 0;
+        long deadline = System.currentTimeMillis() + WRITE_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            taskCounters.reconcile();
+            reconciles++;
+        }
+        stop.set(true);
+
+        int writes = 0;
+        for (Future<Integer> writer : writers) {
+            writes += writer.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(reconciles).isGreaterThan(1);
+        assertThat(writes).isPositive();
+        assertThat(cells(taskCounters.snapshot())).isEqualTo(tableCounts());
+    }
+
+    // create -> move to another status and priority -> every other task deleted
+    private int write(int writer, AtomicBoolean stop) {
+        TaskPriority[] priorities = TaskPriority.values();
+        int writes = 0;
+        for (int i = 0; !stop.get(); i++) {
+            String name = "reconcile-" + writer + "-" + i;
+            long id = taskService.createTask(new TaskRequest(name, priorities[i % priorities.length], TaskStatus.QUEUED)).getId();
+            taskService.updateTask(id, new TaskRequest(name, priorities[(i + 1) % priorities.length], TaskStatus.IN_PROGRESS));
+            writes += 2;
+            if (i % 2 == 0) {
+                taskService.deleteTask(id);
+                writes++;
+            }
+        }
+        return writes;
+    }
+
+    private Map<TaskStatus, Map<TaskPriority, Long>> cells(TaskStatsResponse stats) {
+        Map<TaskStatus, Map<TaskPriority, Long>> cells = new EnumMap<>(TaskStatus.class);
+        stats.getByStatusAndPriority().forEach((status, row) -> cells.put(status, new EnumMap<>(row)));
+        return cells;
+    }
+
+    private Map<TaskStatus, Map<TaskPriority, Long>> tableCounts() {
+        Map<TaskStatus, Map<TaskPriority, Long>> cells = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            Map<TaskPriority, Long> row = new EnumMap<>(TaskPriority.class);
+            for (TaskPriority priority : TaskPriority.values()) {
+                row.put(priority, 0L);
+            }
+            cells.put(status, row);
+        }
+        for (Object[] row : ReadConsistency.onPrimary(taskRepository::countGroupByStatusAndPriority)) {
+            cells.get((TaskStatus) row[0]).put((TaskPriority) row[1], (Long) row[2]);
+        }
+        return cells;
+    }
+
+    private void awaitFirstReconcile() throws InterruptedException {
+        for (int i = 0; i < 100 && taskCounters.snapshot().getLastReconciledAt() == null; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(taskCounters.snapshot().getLastReconciledAt()).as("first counter reconcile").isNotNull();
+    }
+}
@@ -0,0 +1,132 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.CursorPageResponse;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.entity.TaskPriority;
+import com.taskflow.entity.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Walks /api/tasks/cursor page by page over rows that spread across every priority
+// and share created_at values, with pages that end inside those ties. Every page
+// seam must continue exactly after the last row: nothing skipped, nothing repeated.
+@SpringBootTest(properties = {
+        "taskflow.worker.enabled=false",
+        "taskflow.warmup.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class TaskCursorPaginationTest {
+
+    private static final long FIRST_ID = 700_001L;
+    private static final int PAGE_SIZE = 4;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Row> rows = new ArrayList<>();
+
+    // 3 priorities x 2 creation times x 3 rows per time, inserted out of order
+    @BeforeEach
+    void insertTasks() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+        long id = FIRST_ID;
+        for (TaskPriority priority : List.of(TaskPriority.MEDIUM, TaskPriority.LOW, TaskPriority.HIGH)) {
+            for (LocalDateTime createdAt : List.of(base, base.minusMinutes(5))) {
+                for (int i = 0; i < 3; i++) {
+                    jdbcTemplate.update(
+                            "INSERT INTO tasks (id, name, status, priority, created_at, updated_at) "
+                                    + "VALUES (?, ?, ?, ?, ?, ?)",
+                            id, "cursor-" + id, TaskStatus.QUEUED.getCode(), priority.getCode(), createdAt, createdAt);
+                    rows.add(new Row(id, priority, createdAt));
+                    id++;
+                }
+            }
+        }
+    }
+
+    @Test
+    void priorityPagesRunFromHighToLowNewestFirst() {
+        List<Long> expected = rows.stream()
+                .sorted(Comparator.comparing((Row row) -> row.priority.getCode())
+                        .thenComparing(row -> row.createdAt)
+                        .thenComparing(row -> row.id)
+                        .reversed())
+                .map(row -> row.id)
+                .toList();
+
+        assertThat(walk("priority")).containsExactlyElementsOf(expected);
+        assertThat(expected.get(0)).isEqualTo(idOf(TaskPriority.HIGH));
+    }
+
+    @Test
+    void createdAtPagesRunOldestFirst() {
+        List<Long> expected = rows.stream()
+                .sorted(Comparator.comparing((Row row) -> row.createdAt).thenComparing(row -> row.id))
+                .map(row -> row.id)
+                .toList();
+
+        assertThat(walk("createdAt")).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void idPagesRunAscending() {
+        List<Long> expected = rows.stream().map(row -> row.id).sorted().toList();
+
+        assertThat(walk("id")).containsExactlyElementsOf(expected);
+    }
+
+    // Every id of the test rows in the order the pages returned them
+    private List<Long> walk(String sortBy) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<TaskResponse> page = taskService.getTasksByCursor(cursor, PAGE_SIZE, sortBy, false);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            assertThat(page.isHasNext()).isEqualTo(page.getNextCursor() != null);
+
+            page.getContent().stream()
+                    .map(TaskResponse::getId)
+                    .filter(id -> id >= FIRST_ID && id < FIRST_ID + rows.size())
+                    .forEach(ids::add);
+            cursor = page.getNextCursor();
+            assertThat(++pages).as("pages for sortBy=%s", sortBy).isLessThan(100);
+        } while (cursor != null);
+        return ids;
+    }
+
+    private long idOf(TaskPriority priority) {
+        return rows.stream()
+                .filter(row -> row.priority == priority)
+                .max(Comparator.comparing((Row row) -> row.createdAt).thenComparing(row -> row.id))
+                .orElseThrow()
+                .id;
+    }
+
+    private record Row(long id, TaskPriority priority, LocalDateTime createdAt) {
+    }
+}